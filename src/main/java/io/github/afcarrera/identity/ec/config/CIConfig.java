@@ -15,7 +15,7 @@ package io.github.afcarrera.identity.ec.config;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
 import io.github.afcarrera.identity.ec.handler.IdentityHandler;
-import io.github.afcarrera.identity.ec.handler.impl.*;
+import io.github.afcarrera.identity.ec.metrics.InstrumentedIdentityHandler;
 import java.util.List;
 
 /**
@@ -26,45 +26,31 @@ import java.util.List;
  */
 public final class CIConfig {
 
-  /** First element in the identity handler chain. */
-  private final IdentityHandler<IdentityDocument> firstChainElement;
+  /** Name of the chain, under which its metrics are registered. */
+  public static final String CHAIN_NAME = "CI";
 
   /**
-   * Retrieves configuration properties
+   * Constructor for CIConfig.
    *
-   * <p>Initialize the first element in the chain with various handlers
+   * <p>The chain is built with every other chain, from the classpath configuration, the first time
+   * any of them is used, and rebuilt when the configuration is reloaded.
    */
-  CIConfig() {
-    CIPropertiesConfig ciPropertiesConfig = CIPropertiesConfig.getInstance();
-    firstChainElement =
-        IdentityConfigUtil.linkChain(
-            new RegexHandler(ciPropertiesConfig.getRegexp()),
-            List.of(
-                new ProvinceCodeHandler(
-                    Integer.parseInt(ciPropertiesConfig.getProvinceInitialIndex()),
-                    Integer.parseInt(ciPropertiesConfig.getProvinceFinalIndex()),
-                    IdentityConfigUtil.getStringSetFromProperty(
-                        ciPropertiesConfig.getProvinceList())),
-                new StringToIntegerHandler(),
-                new SubListExtractorHandler(
-                    IdentityConfigUtil.getIntegerListFromProperty(
-                        ciPropertiesConfig.getIndexList())),
-                new CoefficientMultiplicationHandler(
-                    IdentityConfigUtil.getIntegerListFromProperty(
-                        ciPropertiesConfig.getCoefficientList())),
-                new ListValueAdjusterHandler(
-                    Boolean.parseBoolean(ciPropertiesConfig.getAdjuster()),
-                    Integer.parseInt(ciPropertiesConfig.getAdjusterMaxValue()),
-                    Integer.parseInt(ciPropertiesConfig.getAdjusterSubtrahend())),
-                new ListSumHandler(),
-                new LastCheckDigitModHandler(
-                    Integer.parseInt(ciPropertiesConfig.getLastCheckDigitMaxValue()),
-                    Integer.parseInt(ciPropertiesConfig.getLastCheckDigitDivisor())),
-                new LastDigitHandler(Integer.parseInt(ciPropertiesConfig.getLastCheckDigitIndex())),
-                new FirstComparisonHandler(
-                    Integer.parseInt(ciPropertiesConfig.getFirstComparisonValue())),
-                new SecondComparisonHandler(
-                    Integer.parseInt(ciPropertiesConfig.getSecondComparisonMinuend()))));
+  CIConfig() {}
+
+  /**
+   * Creates the chain that validates a CI, compiled into a single handler when the compiled mode is
+   * enabled, and instrumented when the metrics are enabled.
+   *
+   * @param ciPropertiesConfig The CI configuration properties.
+   * @return First element in the identity handler chain.
+   */
+  static IdentityHandler<IdentityDocument> createChain(CIPropertiesConfig ciPropertiesConfig) {
+    IdentityHandler<IdentityDocument> firstChainElement =
+        IdentityConfigUtil.createCheckDigitChain(
+            ciPropertiesConfig, ciPropertiesConfig.getRegexp(), 0, List.of());
+    return Boolean.parseBoolean(ciPropertiesConfig.getMetrics())
+        ? InstrumentedIdentityHandler.instrument(firstChainElement)
+        : firstChainElement;
   }
 
   /**
@@ -73,7 +59,7 @@ public final class CIConfig {
    * @return Singleton instance of CIConfig.
    */
   public static CIConfig getInstance() {
-    return DocumentValidatorConfig.getBean(CIConfig.class);
+    return Holder.INSTANCE;
   }
 
   /**
@@ -82,6 +68,32 @@ public final class CIConfig {
    * @return First element in the identity handler chain.
    */
   public IdentityHandler<IdentityDocument> getFirstChainElement() {
-    return firstChainElement;
+    return DocumentValidatorConfig.getSnapshot().getCI().getFirstChainElement();
+  }
+
+  /**
+   * Method to get the CI properties the current chain was built from, which follow the reloads of
+   * the configuration.
+   *
+   * @return The current CI configuration properties.
+   */
+  public CIPropertiesConfig getPropertiesConfig() {
+    return DocumentValidatorConfig.getSnapshot().getCI().getPropertiesConfig();
+  }
+
+  /**
+   * Method to get the number of digits of the current CI format.
+   *
+   * @return The number of digits, or -1 if the format is not a plain digit pattern.
+   */
+  public int getLength() {
+    return DocumentValidatorConfig.getSnapshot().getCI().getLength();
+  }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of CIConfig. */
+    private static final CIConfig INSTANCE = new CIConfig();
   }
 }
@@ -23,7 +23,7 @@ import java.util.Properties;
  * <p>This class retrieves properties from a properties file and provides methods to access various
  * CI-related configuration values.
  */
-public class CIPropertiesConfig {
+public class CIPropertiesConfig implements CheckDigitPropertiesConfig {
 
   /** Properties object containing the configuration properties. */
   private final Properties properties;
@@ -33,8 +33,17 @@ public class CIPropertiesConfig {
 
   /** Initializes the properties object and sets the CI prefix. */
   CIPropertiesConfig() {
+    this(PropertiesConfig.getInstance().getProperties());
+  }
+
+  /**
+   * Initializes the given properties object and sets the CI prefix.
+   *
+   * @param properties Properties object containing the configuration properties.
+   */
+  CIPropertiesConfig(Properties properties) {
     ciPrefix = prefixValuePath.concat("ci.");
-    properties = PropertiesConfig.getInstance().getProperties();
+    this.properties = properties;
   }
 
   /**
@@ -43,7 +52,7 @@ public class CIPropertiesConfig {
    * @return Singleton instance of CIPropertiesConfig.
    */
   public static CIPropertiesConfig getInstance() {
-    return DocumentValidatorConfig.getBean(CIPropertiesConfig.class);
+    return Holder.INSTANCE;
   }
 
   /**
@@ -51,6 +60,7 @@ public class CIPropertiesConfig {
    *
    * @return Regular expression property value.
    */
+  @Override
   public String getRegexp() {
     return properties.getProperty(ciPrefix.concat("regexp"));
   }
@@ -60,6 +70,7 @@ public class CIPropertiesConfig {
    *
    * @return Province initial index property value.
    */
+  @Override
   public String getProvinceInitialIndex() {
     return properties.getProperty(ciPrefix.concat("province.index.initial"));
   }
@@ -69,6 +80,7 @@ public class CIPropertiesConfig {
    *
    * @return Province final index property value.
    */
+  @Override
   public String getProvinceFinalIndex() {
     return properties.getProperty(ciPrefix.concat("province.index.final"));
   }
@@ -78,6 +90,7 @@ public class CIPropertiesConfig {
    *
    * @return Province list property value.
    */
+  @Override
   public String getProvinceList() {
     return properties.getProperty(ciPrefix.concat("list.province"));
   }
@@ -87,6 +100,7 @@ public class CIPropertiesConfig {
    *
    * @return Index list property value.
    */
+  @Override
   public String getIndexList() {
     return properties.getProperty(ciPrefix.concat("list.index"));
   }
@@ -96,6 +110,7 @@ public class CIPropertiesConfig {
    *
    * @return Coefficient list property value.
    */
+  @Override
   public String getCoefficientList() {
     return properties.getProperty(ciPrefix.concat("list.coefficient"));
   }
@@ -105,6 +120,7 @@ public class CIPropertiesConfig {
    *
    * @return Adjuster property value.
    */
+  @Override
   public String getAdjuster() {
     return properties.getProperty(ciPrefix.concat("adjuster"));
   }
@@ -114,6 +130,7 @@ public class CIPropertiesConfig {
    *
    * @return Last check digit index property value.
    */
+  @Override
   public String getLastCheckDigitIndex() {
     return properties.getProperty(ciPrefix.concat("last-check-digit.index"));
   }
@@ -123,6 +140,7 @@ public class CIPropertiesConfig {
    *
    * @return Adjuster max value property value.
    */
+  @Override
   public String getAdjusterMaxValue() {
     return properties.getProperty(ciPrefix.concat("adjuster.max-value"));
   }
@@ -132,6 +150,7 @@ public class CIPropertiesConfig {
    *
    * @return Adjuster subtrahend property value.
    */
+  @Override
   public String getAdjusterSubtrahend() {
     return properties.getProperty(ciPrefix.concat("adjuster.subtrahend"));
   }
@@ -141,6 +160,7 @@ public class CIPropertiesConfig {
    *
    * @return Last check digit max value property value.
    */
+  @Override
   public String getLastCheckDigitMaxValue() {
     return properties.getProperty(ciPrefix.concat("last-check-digit.max-value"));
   }
@@ -150,6 +170,7 @@ public class CIPropertiesConfig {
    *
    * @return Last check digit divisor property value.
    */
+  @Override
   public String getLastCheckDigitDivisor() {
     return properties.getProperty(ciPrefix.concat("last-check-digit.divisor"));
   }
@@ -159,6 +180,7 @@ public class CIPropertiesConfig {
    *
    * @return First comparison value property value.
    */
+  @Override
   public String getFirstComparisonValue() {
     return properties.getProperty(ciPrefix.concat("comparison.value"));
   }
@@ -168,7 +190,35 @@ public class CIPropertiesConfig {
    *
    * @return Second comparison minuend property value.
    */
+  @Override
   public String getSecondComparisonMinuend() {
     return properties.getProperty(ciPrefix.concat("comparison.minuend"));
   }
+
+  /**
+   * Method to get the compiled property.
+   *
+   * @return Compiled property value.
+   */
+  @Override
+  public String getCompiled() {
+    return properties.getProperty(ciPrefix.concat("compiled"));
+  }
+
+  /**
+   * Method to get the metrics property.
+   *
+   * @return Metrics property value.
+   */
+  @Override
+  public String getMetrics() {
+    return properties.getProperty(ciPrefix.concat("metrics"));
+  }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of CIPropertiesConfig. */
+    private static final CIPropertiesConfig INSTANCE = new CIPropertiesConfig();
+  }
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.config;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+
+/**
+ * Immutable snapshot of an identity handler chain and the properties it was built from.
+ *
+ * @param <P> Type of the configuration properties of the chain.
+ */
+final class ChainSnapshot<P> {
+
+  /** First element in the identity handler chain. */
+  private final IdentityHandler<IdentityDocument> firstChainElement;
+
+  /** Properties the chain was built from. */
+  private final P propertiesConfig;
+
+  /** Number of digits of the configured format, or -1 if it is not a plain digit pattern. */
+  private final int length;
+
+  /**
+   * Constructor for ChainSnapshot.
+   *
+   * @param firstChainElement The first element in the identity handler chain.
+   * @param propertiesConfig The properties the chain was built from.
+   * @param regexp The configured format of the values validated by the chain.
+   */
+  ChainSnapshot(
+      IdentityHandler<IdentityDocument> firstChainElement, P propertiesConfig, String regexp) {
+    this.firstChainElement = firstChainElement;
+    this.propertiesConfig = propertiesConfig;
+    this.length = IdentityConfigUtil.getDigitPatternLength(regexp);
+  }
+
+  /**
+   * Method to get the first element in the identity handler chain.
+   *
+   * @return First element in the identity handler chain.
+   */
+  IdentityHandler<IdentityDocument> getFirstChainElement() {
+    return firstChainElement;
+  }
+
+  /**
+   * Method to get the properties the chain was built from.
+   *
+   * @return The configuration properties of the chain.
+   */
+  P getPropertiesConfig() {
+    return propertiesConfig;
+  }
+
+  /**
+   * Method to get the number of digits of the configured format.
+   *
+   * @return The number of digits, or -1 if the format is not a plain digit pattern.
+   */
+  int getLength() {
+    return length;
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.config;
+
+/**
+ * Interface for accessing the properties of a document validated with a check digit.
+ *
+ * <p>The check digit is calculated from the digits at the configured indexes, multiplied by the
+ * configured coefficients, optionally adjusted, summed and reduced, and compared with the digit at
+ * the check digit index. Documents such as the CI and the RUC of companies and public entities
+ * share these rules with different values, so they are validated by the same chain.
+ */
+public interface CheckDigitPropertiesConfig {
+
+  /**
+   * Method to get the regular expression property.
+   *
+   * @return Regular expression property value.
+   */
+  String getRegexp();
+
+  /**
+   * Method to get the province initial index property.
+   *
+   * @return Province initial index property value.
+   */
+  String getProvinceInitialIndex();
+
+  /**
+   * Method to get the province final index property.
+   *
+   * @return Province final index property value.
+   */
+  String getProvinceFinalIndex();
+
+  /**
+   * Method to get the province list property.
+   *
+   * @return Province list property value.
+   */
+  String getProvinceList();
+
+  /**
+   * Method to get the index list property.
+   *
+   * @return Index list property value.
+   */
+  String getIndexList();
+
+  /**
+   * Method to get the coefficient list property.
+   *
+   * @return Coefficient list property value.
+   */
+  String getCoefficientList();
+
+  /**
+   * Method to get the adjuster property.
+   *
+   * @return Adjuster property value.
+   */
+  String getAdjuster();
+
+  /**
+   * Method to get the last check digit index property.
+   *
+   * @return Last check digit index property value.
+   */
+  String getLastCheckDigitIndex();
+
+  /**
+   * Method to get the adjuster max value property.
+   *
+   * @return Adjuster max value property value.
+   */
+  String getAdjusterMaxValue();
+
+  /**
+   * Method to get the adjuster subtrahend property.
+   *
+   * @return Adjuster subtrahend property value.
+   */
+  String getAdjusterSubtrahend();
+
+  /**
+   * Method to get the last check digit max value property.
+   *
+   * @return Last check digit max value property value.
+   */
+  String getLastCheckDigitMaxValue();
+
+  /**
+   * Method to get the last check digit divisor property.
+   *
+   * @return Last check digit divisor property value.
+   */
+  String getLastCheckDigitDivisor();
+
+  /**
+   * Method to get the first comparison value property.
+   *
+   * @return First comparison value property value.
+   */
+  String getFirstComparisonValue();
+
+  /**
+   * Method to get the second comparison minuend property.
+   *
+   * @return Second comparison minuend property value.
+   */
+  String getSecondComparisonMinuend();
+
+  /**
+   * Method to get the compiled property.
+   *
+   * @return Compiled property value.
+   */
+  String getCompiled();
+
+  /**
+   * Method to get the metrics property.
+   *
+   * @return Metrics property value.
+   */
+  String getMetrics();
+}
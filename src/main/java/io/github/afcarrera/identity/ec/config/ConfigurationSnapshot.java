@@ -0,0 +1,134 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.config;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.metrics.MetricsRegistry;
+
+/**
+ * Immutable snapshot of every identity handler chain and the version of the configuration they were
+ * built from.
+ *
+ * <p>A snapshot is published with a single reference write, so a reader never combines chains or
+ * properties of different versions of the configuration.
+ */
+final class ConfigurationSnapshot {
+
+  /** Version of the configuration, increased by every reload. */
+  private final long version;
+
+  /** Snapshot of the CI chain. */
+  private final ChainSnapshot<CIPropertiesConfig> ci;
+
+  /** Snapshot of the RUC natural chain. */
+  private final ChainSnapshot<RUCNaturalPropertiesConfig> rucNatural;
+
+  /** Snapshot of the RUC private chain. */
+  private final ChainSnapshot<RUCPrivatePropertiesConfig> rucPrivate;
+
+  /** Snapshot of the RUC public chain. */
+  private final ChainSnapshot<RUCPublicPropertiesConfig> rucPublic;
+
+  /**
+   * Builds every chain from the given properties.
+   *
+   * @param version The version of the configuration.
+   * @param ciPropertiesConfig The CI configuration properties.
+   * @param rucNaturalPropertiesConfig The RUC natural configuration properties.
+   * @param rucPrivatePropertiesConfig The RUC private configuration properties.
+   * @param rucPublicPropertiesConfig The RUC public configuration properties.
+   * @throws IdentityDocumentException If a chain cannot be built from the properties.
+   */
+  ConfigurationSnapshot(
+      long version,
+      CIPropertiesConfig ciPropertiesConfig,
+      RUCNaturalPropertiesConfig rucNaturalPropertiesConfig,
+      RUCPrivatePropertiesConfig rucPrivatePropertiesConfig,
+      RUCPublicPropertiesConfig rucPublicPropertiesConfig) {
+    this.version = version;
+    this.ci =
+        new ChainSnapshot<>(
+            CIConfig.createChain(ciPropertiesConfig),
+            ciPropertiesConfig,
+            ciPropertiesConfig.getRegexp());
+    this.rucNatural =
+        new ChainSnapshot<>(
+            RUCNaturalConfig.createChain(rucNaturalPropertiesConfig, ciPropertiesConfig),
+            rucNaturalPropertiesConfig,
+            rucNaturalPropertiesConfig.getRegexp());
+    this.rucPrivate =
+        new ChainSnapshot<>(
+            RUCPrivateConfig.createChain(rucPrivatePropertiesConfig),
+            rucPrivatePropertiesConfig,
+            rucPrivatePropertiesConfig.getRegexp());
+    this.rucPublic =
+        new ChainSnapshot<>(
+            RUCPublicConfig.createChain(rucPublicPropertiesConfig),
+            rucPublicPropertiesConfig,
+            rucPublicPropertiesConfig.getRegexp());
+  }
+
+  /** Registers the metrics of every chain, replacing those of the previous snapshot. */
+  void registerMetrics() {
+    MetricsRegistry.register(CIConfig.CHAIN_NAME, ci.getFirstChainElement());
+    MetricsRegistry.register(RUCNaturalConfig.CHAIN_NAME, rucNatural.getFirstChainElement());
+    MetricsRegistry.register(RUCPrivateConfig.CHAIN_NAME, rucPrivate.getFirstChainElement());
+    MetricsRegistry.register(RUCPublicConfig.CHAIN_NAME, rucPublic.getFirstChainElement());
+  }
+
+  /**
+   * Method to get the version of the configuration.
+   *
+   * @return The version of the configuration.
+   */
+  long getVersion() {
+    return version;
+  }
+
+  /**
+   * Method to get the snapshot of the CI chain.
+   *
+   * @return Snapshot of the CI chain.
+   */
+  ChainSnapshot<CIPropertiesConfig> getCI() {
+    return ci;
+  }
+
+  /**
+   * Method to get the snapshot of the RUC natural chain.
+   *
+   * @return Snapshot of the RUC natural chain.
+   */
+  ChainSnapshot<RUCNaturalPropertiesConfig> getRUCNatural() {
+    return rucNatural;
+  }
+
+  /**
+   * Method to get the snapshot of the RUC private chain.
+   *
+   * @return Snapshot of the RUC private chain.
+   */
+  ChainSnapshot<RUCPrivatePropertiesConfig> getRUCPrivate() {
+    return rucPrivate;
+  }
+
+  /**
+   * Method to get the snapshot of the RUC public chain.
+   *
+   * @return Snapshot of the RUC public chain.
+   */
+  ChainSnapshot<RUCPublicPropertiesConfig> getRUCPublic() {
+    return rucPublic;
+  }
+}
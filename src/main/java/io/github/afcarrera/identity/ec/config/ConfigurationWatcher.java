@@ -0,0 +1,218 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.config;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watcher that reloads the configuration whenever an external properties file changes.
+ *
+ * <p>This class loads the file once when it is started, and then watches its directory with a
+ * {@link WatchService} on a daemon thread. Every time the file is created or modified, the identity
+ * handler chains are rebuilt on that thread and published through {@link
+ * DocumentValidatorConfig#reload(Properties)}, so validation keeps running on the previous chains
+ * without locking. A file that cannot be read or holds an invalid configuration is logged and
+ * ignored, keeping the current chains.
+ *
+ * <p>A change is only reloaded once the file has been quiet for 200 milliseconds: the events that
+ * follow within that period are merged, and the file is read again until two reads a quiet period
+ * apart return the same content, so a file caught while being written is not published. A writer
+ * that pauses longer than the quiet period can still be read halfway, so the file should preferably
+ * be replaced atomically, by writing a temporary file in the same directory and renaming it over
+ * the watched one.
+ */
+public final class ConfigurationWatcher implements Closeable {
+
+  /** Logger for logging error messages. */
+  private static final Logger log = LoggerFactory.getLogger(ConfigurationWatcher.class);
+
+  /** Time without changes after which the file is considered completely written. */
+  private static final long QUIET_PERIOD_MILLIS = 200;
+
+  /** Maximum number of reads waiting for the content of the file to stop changing. */
+  private static final int MAX_READS = 50;
+
+  /** The watched properties file. */
+  private final Path file;
+
+  /** Watch service notified of the changes in the directory of the file. */
+  private final WatchService watchService;
+
+  /** Thread reloading the configuration. */
+  private final Thread thread;
+
+  /**
+   * Constructor for ConfigurationWatcher.
+   *
+   * @param file The properties file to be watched.
+   * @throws IOException If the directory of the file cannot be watched.
+   */
+  private ConfigurationWatcher(Path file) throws IOException {
+    this.file = file.toAbsolutePath();
+    this.watchService = this.file.getFileSystem().newWatchService();
+    this.file
+        .getParent()
+        .register(
+            watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+    this.thread = new Thread(this::watch, "identity-configuration-watcher");
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Loads a properties file and starts watching it for changes.
+   *
+   * @param file The properties file to be watched.
+   * @return The started watcher, to be closed to stop watching.
+   * @throws IOException If the file cannot be read or its directory cannot be watched.
+   * @throws IdentityDocumentException If the file holds an invalid configuration.
+   */
+  public static ConfigurationWatcher start(Path file) throws IOException {
+    ConfigurationWatcher watcher = new ConfigurationWatcher(file);
+    try {
+      DocumentValidatorConfig.reload(watcher.load());
+    } catch (IOException | RuntimeException exception) {
+      watcher.watchService.close();
+      throw exception;
+    }
+    watcher.thread.start();
+    return watcher;
+  }
+
+  /** Stops watching the file. */
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+  }
+
+  /**
+   * Waits for changes in the directory of the file and reloads the file when it changes.
+   *
+   * <p>The events following a change of the file are merged until none arrives for a quiet period.
+   */
+  private void watch() {
+    try {
+      while (true) {
+        if (!isFileChanged(watchService.take())) {
+          continue;
+        }
+        WatchKey key;
+        while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+          isFileChanged(key);
+        }
+        reload();
+      }
+    } catch (ClosedWatchServiceException | InterruptedException exception) {
+      log.debug("Stopped watching {}.", file);
+    }
+  }
+
+  /**
+   * Consumes the events of a watch key and checks whether any of them concerns the file.
+   *
+   * <p>If the directory is no longer accessible, the watch service is closed, so that watching
+   * stops.
+   *
+   * @param key The signalled watch key.
+   * @return `true` if the file was created or modified, otherwise `false`.
+   */
+  private boolean isFileChanged(WatchKey key) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      changed |= file.getFileName().equals(event.context());
+    }
+    if (!key.reset()) {
+      log.error("Stopped watching {}, its directory is no longer accessible.", file);
+      try {
+        watchService.close();
+      } catch (IOException exception) {
+        log.debug("Watch service of {} not closed: {}", file, exception.getMessage());
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Reloads the file once its content is stable, keeping the current configuration if it cannot be
+   * loaded.
+   *
+   * @throws InterruptedException If the thread is interrupted while waiting for the file.
+   */
+  private void reload() throws InterruptedException {
+    try {
+      DocumentValidatorConfig.reload(parse(readStable()));
+    } catch (IOException | RuntimeException exception) {
+      log.error("Configuration in {} not reloaded: {}", file, exception.getMessage());
+    }
+  }
+
+  /**
+   * Reads the content of the file until two reads a quiet period apart return the same content.
+   *
+   * @return The stable content of the file.
+   * @throws IOException If the file cannot be read or keeps changing.
+   * @throws InterruptedException If the thread is interrupted while waiting for the file.
+   */
+  private byte[] readStable() throws IOException, InterruptedException {
+    byte[] content = Files.readAllBytes(file);
+    for (int i = 0; i < MAX_READS; i++) {
+      Thread.sleep(QUIET_PERIOD_MILLIS);
+      byte[] nextContent = Files.readAllBytes(file);
+      if (Arrays.equals(content, nextContent)) {
+        return content;
+      }
+      content = nextContent;
+    }
+    throw new IOException("File still changing.");
+  }
+
+  /**
+   * Loads the properties of the file.
+   *
+   * @return The properties of the file.
+   * @throws IOException If the file cannot be read.
+   */
+  private Properties load() throws IOException {
+    return parse(Files.readAllBytes(file));
+  }
+
+  /**
+   * Parses the content of a properties file.
+   *
+   * @param content The content of the file.
+   * @return The properties held by the content.
+   * @throws IOException If the content cannot be parsed.
+   */
+  private static Properties parse(byte[] content) throws IOException {
+    Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(content));
+    return properties;
+  }
+}
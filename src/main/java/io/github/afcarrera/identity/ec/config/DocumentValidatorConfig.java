@@ -14,7 +14,9 @@
 package io.github.afcarrera.identity.ec.config;
 
 import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.listener.RejectionListener;
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,9 +24,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Singleton configuration class that holds instances of various configuration classes.
  *
- * <p>This class initializes and provides access to singleton instances of configuration classes
- * such as PropertiesConfig, CIPropertiesConfig, CIConfig, RUCNaturalPropertiesConfig, and
- * RUCNaturalConfig.
+ * <p>This class provides access to singleton instances of configuration classes such as
+ * PropertiesConfig, CIPropertiesConfig, CIConfig, RUCNaturalPropertiesConfig, and RUCNaturalConfig.
+ * Each of them is created by the JVM on first use through the holder of its class, so calling
+ * {@link #init()} is optional; it only moves the loading of the configuration to a known moment.
  */
 public class DocumentValidatorConfig {
 
@@ -37,6 +40,12 @@ public class DocumentValidatorConfig {
   /** Atomic boolean to ensure initialization happens only once. */
   private static volatile boolean initialized = false;
 
+  /** Chains published by the last reload, or null until the configuration is first reloaded. */
+  private static volatile ConfigurationSnapshot snapshot;
+
+  /** Listener notified of every rejected identity document. */
+  private static volatile RejectionListener rejectionListener = RejectionListener.NONE;
+
   /** Private constructor to prevent instantiation. */
   private DocumentValidatorConfig() {}
 
@@ -49,6 +58,7 @@ public class DocumentValidatorConfig {
    * @throws IdentityDocumentException if the class is not managed as a singleton.
    */
   public static <T> T getBean(Class<T> clazz) {
+    init();
     if (!SINGLETONS.containsKey(clazz)) {
       throw new IdentityDocumentException(
           "Class " + clazz.getName() + " is not a managed singleton.");
@@ -56,7 +66,11 @@ public class DocumentValidatorConfig {
     return clazz.cast(SINGLETONS.get(clazz));
   }
 
-  /** Initializes the singleton instances of configuration classes. */
+  /**
+   * Initializes the singleton instances of configuration classes.
+   *
+   * <p>Calling this method is optional, since every instance is created on first use.
+   */
   public static void init() {
     if (initialized) {
       return;
@@ -64,13 +78,120 @@ public class DocumentValidatorConfig {
     synchronized (DocumentValidatorConfig.class) {
       if (!initialized) {
         log.info("Initializing DocumentValidatorConfig singletons...");
+        SINGLETONS.putIfAbsent(PropertiesConfig.class, PropertiesConfig.getInstance());
+        SINGLETONS.putIfAbsent(CIPropertiesConfig.class, CIPropertiesConfig.getInstance());
+        SINGLETONS.putIfAbsent(CIConfig.class, CIConfig.getInstance());
+        SINGLETONS.putIfAbsent(
+            RUCNaturalPropertiesConfig.class, RUCNaturalPropertiesConfig.getInstance());
+        SINGLETONS.putIfAbsent(RUCNaturalConfig.class, RUCNaturalConfig.getInstance());
+        SINGLETONS.putIfAbsent(
+            RUCPrivatePropertiesConfig.class, RUCPrivatePropertiesConfig.getInstance());
+        SINGLETONS.putIfAbsent(RUCPrivateConfig.class, RUCPrivateConfig.getInstance());
+        SINGLETONS.putIfAbsent(
+            RUCPublicPropertiesConfig.class, RUCPublicPropertiesConfig.getInstance());
+        SINGLETONS.putIfAbsent(RUCPublicConfig.class, RUCPublicConfig.getInstance());
         initialized = true;
-        SINGLETONS.putIfAbsent(PropertiesConfig.class, new PropertiesConfig());
-        SINGLETONS.putIfAbsent(CIPropertiesConfig.class, new CIPropertiesConfig());
-        SINGLETONS.putIfAbsent(CIConfig.class, new CIConfig());
-        SINGLETONS.putIfAbsent(RUCNaturalPropertiesConfig.class, new RUCNaturalPropertiesConfig());
-        SINGLETONS.putIfAbsent(RUCNaturalConfig.class, new RUCNaturalConfig());
       }
     }
   }
+
+  /**
+   * Rebuilds the identity handler chains from the given properties and publishes them.
+   *
+   * <p>The given properties override those of the classpath configuration file. Every chain is
+   * built before any of them is published, so an invalid configuration leaves the current chains in
+   * place. The chains, the properties they were built from and the new version of the configuration
+   * are then published together with a single reference write: values already being processed
+   * finish with the previous chains, validation never waits for a reload and no reader combines
+   * chains or properties of different versions.
+   *
+   * @param properties The properties overriding the classpath configuration.
+   * @throws IdentityDocumentException If a chain cannot be built from the properties.
+   */
+  public static synchronized void reload(Properties properties) {
+    Properties merged = new Properties();
+    merged.putAll(PropertiesConfig.getInstance().getProperties());
+    merged.putAll(properties);
+    ConfigurationSnapshot reloaded;
+    try {
+      reloaded =
+          new ConfigurationSnapshot(
+              getSnapshot().getVersion() + 1,
+              new CIPropertiesConfig(merged),
+              new RUCNaturalPropertiesConfig(merged),
+              new RUCPrivatePropertiesConfig(merged),
+              new RUCPublicPropertiesConfig(merged));
+    } catch (IdentityDocumentException identityDocumentException) {
+      throw identityDocumentException;
+    } catch (RuntimeException runtimeException) {
+      throw new IdentityDocumentException(
+          "Invalid configuration: " + runtimeException.getMessage(), runtimeException);
+    }
+    snapshot = reloaded;
+    reloaded.registerMetrics();
+    log.info("Reloaded identity handler chains.");
+  }
+
+  /**
+   * Method to get the version of the configuration, so that results computed with a previous
+   * configuration can be told apart.
+   *
+   * @return The version of the configuration, increased by every reload.
+   */
+  public static long getConfigurationVersion() {
+    return getSnapshot().getVersion();
+  }
+
+  /**
+   * Method to get the chains currently published, built from the classpath configuration on first
+   * use.
+   *
+   * @return The current snapshot of every chain.
+   */
+  static ConfigurationSnapshot getSnapshot() {
+    ConfigurationSnapshot current = snapshot;
+    return current != null ? current : SnapshotHolder.INITIAL;
+  }
+
+  /**
+   * Method to get the listener notified of every rejected identity document.
+   *
+   * @return The rejection listener; {@link RejectionListener#NONE} unless one was set.
+   */
+  public static RejectionListener getRejectionListener() {
+    return rejectionListener;
+  }
+
+  /**
+   * Sets the listener notified of every rejected identity document.
+   *
+   * @param listener The rejection listener, or null to ignore rejections.
+   */
+  public static void setRejectionListener(RejectionListener listener) {
+    rejectionListener = listener == null ? RejectionListener.NONE : listener;
+  }
+
+  /** Holder of the chains built from the classpath configuration, created on first use. */
+  private static final class SnapshotHolder {
+
+    /** Snapshot of the chains built from the classpath configuration. */
+    private static final ConfigurationSnapshot INITIAL = createInitialSnapshot();
+
+    /**
+     * Builds the chains from the classpath configuration and registers their metrics.
+     *
+     * @return The snapshot of the chains.
+     */
+    private static ConfigurationSnapshot createInitialSnapshot() {
+      ConfigurationSnapshot initial =
+          new ConfigurationSnapshot(
+              0,
+              CIPropertiesConfig.getInstance(),
+              RUCNaturalPropertiesConfig.getInstance(),
+              RUCPrivatePropertiesConfig.getInstance(),
+              RUCPublicPropertiesConfig.getInstance());
+      initial.registerMetrics();
+      return initial;
+    }
+  }
 }
@@ -14,16 +14,23 @@
 package io.github.afcarrera.identity.ec.config;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
 import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+import io.github.afcarrera.identity.ec.handler.impl.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * Utility class for identity configuration.
  *
- * <p>Provides methods to link handlers in a chain and to retrieve configuration properties.
+ * <p>Provides methods to link handlers in a chain, optionally preceded by a stage of cheap
+ * pre-filters, and to retrieve configuration properties.
  */
 public class IdentityConfigUtil {
 
@@ -33,6 +40,9 @@ public class IdentityConfigUtil {
   /** Prefix used for configuration properties. */
   public static final String prefixValuePath = "io.github.afcarrera.identity.ec.";
 
+  /** Pattern recognizing regular expressions made only of a fixed number of digits. */
+  private static final Pattern digitPattern = Pattern.compile("\\^?\\\\d\\{(\\d{1,9})\\}\\$?");
+
   /**
    * Links a list of identity handlers into a chain.
    *
@@ -50,6 +60,180 @@ public class IdentityConfigUtil {
     return first;
   }
 
+  /**
+   * Links a stage of pre-filters and a list of identity handlers into a chain.
+   *
+   * <p>Pre-filters are independent checks that only read the value of the identity document, such
+   * as its length, format or province code, so they can run in any order. They are ordered by their
+   * declared cost, cheapest first, and placed before the handlers, so most invalid values are
+   * rejected before any heavier handler runs. Handlers keep the given order.
+   *
+   * @param preFilters The independent checks to be run first, in any order.
+   * @param chain The list of handlers to be linked after the pre-filters.
+   * @return The first handler in the chain.
+   * @throws IdentityDocumentException If there is no pre-filter.
+   */
+  public static IdentityHandler<IdentityDocument> linkChain(
+      List<IdentityHandler<IdentityDocument>> preFilters,
+      List<IdentityHandler<IdentityDocument>> chain) {
+    if (preFilters.isEmpty()) {
+      throw new IdentityDocumentException("Empty pre-filter stage.");
+    }
+    List<IdentityHandler<IdentityDocument>> handlers = new ArrayList<>(preFilters);
+    handlers.sort(Comparator.comparingInt(IdentityHandler::getCost));
+    handlers.addAll(chain);
+    return linkChain(handlers.get(0), handlers.subList(1, handlers.size()));
+  }
+
+  /**
+   * Gets the handlers checking the format of a value against a regular expression.
+   *
+   * <p>A plain digit pattern is checked by a {@link LengthHandler} followed by a {@link
+   * RegexHandler} scanning the digits, so that values of the wrong length are rejected without
+   * reading them.
+   *
+   * @param regex The regular expression to be used for validation.
+   * @return The handlers checking the format, to be used as pre-filters.
+   */
+  public static List<IdentityHandler<IdentityDocument>> getFormatHandlers(String regex) {
+    int length = getDigitPatternLength(regex);
+    if (length < 0) {
+      return List.of(new RegexHandler(regex));
+    }
+    return List.of(new LengthHandler(length), new RegexHandler(regex));
+  }
+
+  /**
+   * Creates the chain that validates a value holding a check digit document, such as a CI, compiled
+   * into a single handler when the compiled mode is enabled.
+   *
+   * <p>The checks read the digits of the value directly, at the configured indexes shifted by the
+   * offset of the document, so no substring of the value is created. The format of the value is
+   * checked first, so a value holding other characters than digits is always rejected as such. The
+   * content checks, the province code and the additional pre-filters, then run ordered cheapest
+   * first, ahead of the check digit handlers. Without additional pre-filters, the compiled mode
+   * runs every check in the compiled handler, in the same order. With them, it keeps the same
+   * format and content checks as the normal mode ahead of the compiled handler, whose own checks
+   * then always pass, so both modes reject each value with the same rejection.
+   *
+   * @param propertiesConfig The check digit configuration properties.
+   * @param regex The regular expression of the whole value.
+   * @param offset The index of the first character of the document within the value.
+   * @param preFilters The additional independent checks of the value.
+   * @return First element in the identity handler chain.
+   */
+  static IdentityHandler<IdentityDocument> createCheckDigitChain(
+      CheckDigitPropertiesConfig propertiesConfig,
+      String regex,
+      int offset,
+      List<IdentityHandler<IdentityDocument>> preFilters) {
+    boolean isCompiled = Boolean.parseBoolean(propertiesConfig.getCompiled());
+    if (isCompiled && preFilters.isEmpty()) {
+      return getCompiledChain(propertiesConfig, regex, offset);
+    }
+    List<IdentityHandler<IdentityDocument>> chain =
+        getContentFilters(propertiesConfig, offset, preFilters);
+    chain.sort(Comparator.comparingInt(IdentityHandler::getCost));
+    if (isCompiled) {
+      chain.add(getCompiledChain(propertiesConfig, regex, offset));
+    } else {
+      chain.addAll(getCheckDigitHandlers(propertiesConfig, offset));
+    }
+    return linkChain(getFormatHandlers(regex), chain);
+  }
+
+  /**
+   * Gets the content checks of a check digit document: the province code check, together with the
+   * additional pre-filters.
+   *
+   * @param propertiesConfig The check digit configuration properties.
+   * @param offset The index of the first character of the document within the value.
+   * @param additionalPreFilters The additional independent checks of the value.
+   * @return The independent checks of the content of the value, to be ordered cheapest first.
+   */
+  private static List<IdentityHandler<IdentityDocument>> getContentFilters(
+      CheckDigitPropertiesConfig propertiesConfig,
+      int offset,
+      List<IdentityHandler<IdentityDocument>> additionalPreFilters) {
+    List<IdentityHandler<IdentityDocument>> contentFilters = new ArrayList<>();
+    contentFilters.add(
+        new ProvinceCodeHandler(
+            offset + Integer.parseInt(propertiesConfig.getProvinceInitialIndex()),
+            offset + Integer.parseInt(propertiesConfig.getProvinceFinalIndex()),
+            getStringSetFromProperty(propertiesConfig.getProvinceList())));
+    contentFilters.addAll(additionalPreFilters);
+    return contentFilters;
+  }
+
+  /**
+   * Gets the handlers that calculate and compare the check digit of a document one step at a time.
+   *
+   * @param propertiesConfig The check digit configuration properties.
+   * @param offset The index of the first character of the document within the value.
+   * @return The check digit handlers, in order.
+   */
+  private static List<IdentityHandler<IdentityDocument>> getCheckDigitHandlers(
+      CheckDigitPropertiesConfig propertiesConfig, int offset) {
+    return List.of(
+        new StringToIntegerHandler(),
+        new SubListExtractorHandler(getIndexList(propertiesConfig, offset)),
+        new CoefficientMultiplicationHandler(
+            getIntegerListFromProperty(propertiesConfig.getCoefficientList())),
+        new ListValueAdjusterHandler(
+            Boolean.parseBoolean(propertiesConfig.getAdjuster()),
+            Integer.parseInt(propertiesConfig.getAdjusterMaxValue()),
+            Integer.parseInt(propertiesConfig.getAdjusterSubtrahend())),
+        new ListSumHandler(),
+        new LastCheckDigitModHandler(
+            Integer.parseInt(propertiesConfig.getLastCheckDigitMaxValue()),
+            Integer.parseInt(propertiesConfig.getLastCheckDigitDivisor())),
+        new LastDigitHandler(offset + Integer.parseInt(propertiesConfig.getLastCheckDigitIndex())),
+        new FirstComparisonHandler(Integer.parseInt(propertiesConfig.getFirstComparisonValue())),
+        new SecondComparisonHandler(
+            Integer.parseInt(propertiesConfig.getSecondComparisonMinuend())));
+  }
+
+  /**
+   * Builds a single handler that validates a check digit document in one pass.
+   *
+   * @param propertiesConfig The check digit configuration properties.
+   * @param regex The regular expression of the whole value.
+   * @param offset The index of the first character of the document within the value.
+   * @return The compiled identity handler.
+   */
+  private static IdentityHandler<IdentityDocument> getCompiledChain(
+      CheckDigitPropertiesConfig propertiesConfig, String regex, int offset) {
+    return new CompiledIdentityHandler(
+        regex,
+        offset + Integer.parseInt(propertiesConfig.getProvinceInitialIndex()),
+        offset + Integer.parseInt(propertiesConfig.getProvinceFinalIndex()),
+        getStringSetFromProperty(propertiesConfig.getProvinceList()),
+        getIndexList(propertiesConfig, offset),
+        getIntegerListFromProperty(propertiesConfig.getCoefficientList()),
+        Boolean.parseBoolean(propertiesConfig.getAdjuster()),
+        Integer.parseInt(propertiesConfig.getAdjusterMaxValue()),
+        Integer.parseInt(propertiesConfig.getAdjusterSubtrahend()),
+        Integer.parseInt(propertiesConfig.getLastCheckDigitMaxValue()),
+        Integer.parseInt(propertiesConfig.getLastCheckDigitDivisor()),
+        offset + Integer.parseInt(propertiesConfig.getLastCheckDigitIndex()),
+        Integer.parseInt(propertiesConfig.getFirstComparisonValue()),
+        Integer.parseInt(propertiesConfig.getSecondComparisonMinuend()));
+  }
+
+  /**
+   * Gets the indexes of the digits taking part in the check digit calculation.
+   *
+   * @param propertiesConfig The check digit configuration properties.
+   * @param offset The index of the first character of the document within the value.
+   * @return The configured indexes shifted by the offset.
+   */
+  private static List<Integer> getIndexList(
+      CheckDigitPropertiesConfig propertiesConfig, int offset) {
+    return getIntegerListFromProperty(propertiesConfig.getIndexList()).stream()
+        .map(index -> offset + index)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Converts a comma-separated string property into a list of integers.
    *
@@ -60,6 +244,18 @@ public class IdentityConfigUtil {
     return Arrays.stream(property.split(",")).map(Integer::parseInt).collect(Collectors.toList());
   }
 
+  /**
+   * Gets the length of a regular expression made only of a fixed number of digits, such as {@code
+   * ^\d{10}$}.
+   *
+   * @param regex The regular expression.
+   * @return The number of digits of the expression, or -1 if it is not a plain digit pattern.
+   */
+  public static int getDigitPatternLength(String regex) {
+    Matcher matcher = digitPattern.matcher(regex);
+    return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+  }
+
   /**
    * Converts a comma-separated string property into a set of strings.
    *
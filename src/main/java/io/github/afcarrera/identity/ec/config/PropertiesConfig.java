@@ -50,7 +50,7 @@ public class PropertiesConfig {
    * @return Singleton instance of PropertiesConfig.
    */
   public static PropertiesConfig getInstance() {
-    return DocumentValidatorConfig.getBean(PropertiesConfig.class);
+    return Holder.INSTANCE;
   }
 
   /**
@@ -61,4 +61,11 @@ public class PropertiesConfig {
   public Properties getProperties() {
     return properties;
   }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of PropertiesConfig. */
+    private static final PropertiesConfig INSTANCE = new PropertiesConfig();
+  }
 }
@@ -14,8 +14,10 @@
 package io.github.afcarrera.identity.ec.config;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
 import io.github.afcarrera.identity.ec.handler.IdentityHandler;
 import io.github.afcarrera.identity.ec.handler.impl.*;
+import io.github.afcarrera.identity.ec.metrics.InstrumentedIdentityHandler;
 import java.util.List;
 
 /**
@@ -26,24 +28,50 @@ import java.util.List;
  */
 public final class RUCNaturalConfig {
 
-  /** First element in the identity handler chain. */
-  private final IdentityHandler<IdentityDocument> firstChainElement;
+  /** Name of the chain, under which its metrics are registered. */
+  public static final String CHAIN_NAME = "RUCNatural";
 
   /**
-   * Retrieves configuration properties
+   * Constructor for RUCNaturalConfig.
    *
-   * <p>Initialize the first element in the chain with various handlers
+   * <p>The chain is built with every other chain, from the classpath configuration, the first time
+   * any of them is used, and rebuilt when the configuration is reloaded.
    */
-  RUCNaturalConfig() {
-    RUCNaturalPropertiesConfig rucNaturalPropertiesConfig =
-        RUCNaturalPropertiesConfig.getInstance();
-    firstChainElement =
-        IdentityConfigUtil.linkChain(
-            new RegexHandler(rucNaturalPropertiesConfig.getRegexp()),
+  RUCNaturalConfig() {}
+
+  /**
+   * Creates the chain that validates a RUC natural value in a single pass over its characters.
+   *
+   * <p>The chain checks the format of the whole value and its establishment number, and runs the CI
+   * checks on the embedded CI in place. It is instrumented when the RUC natural metrics are
+   * enabled.
+   *
+   * @param rucNaturalPropertiesConfig The RUCNatural configuration properties.
+   * @param ciPropertiesConfig The CI configuration properties.
+   * @return First element in the identity handler chain.
+   * @throws IdentityDocumentException If the CI indexes do not match the length of a CI.
+   */
+  static IdentityHandler<IdentityDocument> createChain(
+      RUCNaturalPropertiesConfig rucNaturalPropertiesConfig,
+      CIPropertiesConfig ciPropertiesConfig) {
+    int ciInitialIndex = Integer.parseInt(rucNaturalPropertiesConfig.getCIInitialIndex());
+    int ciFinalIndex = Integer.parseInt(rucNaturalPropertiesConfig.getCIFinalIndex());
+    int ciLength = IdentityConfigUtil.getDigitPatternLength(ciPropertiesConfig.getRegexp());
+    if (ciInitialIndex < 0 || (ciLength >= 0 && ciFinalIndex - ciInitialIndex != ciLength)) {
+      throw new IdentityDocumentException("Invalid RUC natural CI indexes.");
+    }
+    IdentityHandler<IdentityDocument> firstChainElement =
+        IdentityConfigUtil.createCheckDigitChain(
+            ciPropertiesConfig,
+            rucNaturalPropertiesConfig.getRegexp(),
+            ciInitialIndex,
             List.of(
-                new SubStringExtractorHandler(
-                    Integer.parseInt(rucNaturalPropertiesConfig.getCIInitialIndex()),
-                    Integer.parseInt(rucNaturalPropertiesConfig.getCIFinalIndex()))));
+                new EstablishmentHandler(
+                    Integer.parseInt(rucNaturalPropertiesConfig.getEstablishmentInitialIndex()),
+                    Integer.parseInt(rucNaturalPropertiesConfig.getEstablishmentFinalIndex()))));
+    return Boolean.parseBoolean(rucNaturalPropertiesConfig.getMetrics())
+        ? InstrumentedIdentityHandler.instrument(firstChainElement)
+        : firstChainElement;
   }
 
   /**
@@ -52,7 +80,7 @@ public final class RUCNaturalConfig {
    * @return Singleton instance of RUCNaturalConfig.
    */
   public static RUCNaturalConfig getInstance() {
-    return DocumentValidatorConfig.getBean(RUCNaturalConfig.class);
+    return Holder.INSTANCE;
   }
 
   /**
@@ -61,6 +89,32 @@ public final class RUCNaturalConfig {
    * @return First element in the identity handler chain.
    */
   public IdentityHandler<IdentityDocument> getFirstChainElement() {
-    return firstChainElement;
+    return DocumentValidatorConfig.getSnapshot().getRUCNatural().getFirstChainElement();
+  }
+
+  /**
+   * Method to get the RUC natural properties the current chain was built from, which follow the
+   * reloads of the configuration.
+   *
+   * @return The current RUC natural configuration properties.
+   */
+  public RUCNaturalPropertiesConfig getPropertiesConfig() {
+    return DocumentValidatorConfig.getSnapshot().getRUCNatural().getPropertiesConfig();
+  }
+
+  /**
+   * Method to get the number of digits of the current RUC natural format.
+   *
+   * @return The number of digits, or -1 if the format is not a plain digit pattern.
+   */
+  public int getLength() {
+    return DocumentValidatorConfig.getSnapshot().getRUCNatural().getLength();
+  }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of RUCNaturalConfig. */
+    private static final RUCNaturalConfig INSTANCE = new RUCNaturalConfig();
   }
 }
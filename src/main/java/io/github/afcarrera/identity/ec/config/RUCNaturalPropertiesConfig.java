@@ -33,8 +33,17 @@ public class RUCNaturalPropertiesConfig {
 
   /** Initializes the properties object and sets the RUCNatural prefix. */
   RUCNaturalPropertiesConfig() {
+    this(PropertiesConfig.getInstance().getProperties());
+  }
+
+  /**
+   * Initializes the given properties object and sets the RUCNatural prefix.
+   *
+   * @param properties Properties object containing the configuration properties.
+   */
+  RUCNaturalPropertiesConfig(Properties properties) {
     rucNaturalPrefix = prefixValuePath.concat("ruc.natural.");
-    properties = PropertiesConfig.getInstance().getProperties();
+    this.properties = properties;
   }
 
   /**
@@ -43,7 +52,7 @@ public class RUCNaturalPropertiesConfig {
    * @return Singleton instance of RUCNaturalPropertiesConfig.
    */
   public static RUCNaturalPropertiesConfig getInstance() {
-    return DocumentValidatorConfig.getBean(RUCNaturalPropertiesConfig.class);
+    return Holder.INSTANCE;
   }
 
   /**
@@ -72,4 +81,38 @@ public class RUCNaturalPropertiesConfig {
   public String getCIFinalIndex() {
     return properties.getProperty(rucNaturalPrefix.concat("ci.index.final"));
   }
+
+  /**
+   * Method to get the establishment initial index property.
+   *
+   * @return Establishment initial index property value.
+   */
+  public String getEstablishmentInitialIndex() {
+    return properties.getProperty(rucNaturalPrefix.concat("establishment.index.initial"));
+  }
+
+  /**
+   * Method to get the establishment final index property.
+   *
+   * @return Establishment final index property value.
+   */
+  public String getEstablishmentFinalIndex() {
+    return properties.getProperty(rucNaturalPrefix.concat("establishment.index.final"));
+  }
+
+  /**
+   * Method to get the metrics property.
+   *
+   * @return Metrics property value.
+   */
+  public String getMetrics() {
+    return properties.getProperty(rucNaturalPrefix.concat("metrics"));
+  }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of RUCNaturalPropertiesConfig. */
+    private static final RUCNaturalPropertiesConfig INSTANCE = new RUCNaturalPropertiesConfig();
+  }
 }
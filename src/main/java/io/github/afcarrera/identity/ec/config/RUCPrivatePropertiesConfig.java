@@ -0,0 +1,260 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.config;
+
+import static io.github.afcarrera.identity.ec.config.IdentityConfigUtil.prefixValuePath;
+
+import java.util.Properties;
+
+/**
+ * Singleton configuration class for accessing RUCPrivate properties.
+ *
+ * <p>This class retrieves properties from a properties file and provides methods to access various
+ * RUCPrivate-related configuration values.
+ */
+public class RUCPrivatePropertiesConfig implements CheckDigitPropertiesConfig {
+
+  /** Properties object containing the configuration properties. */
+  private final Properties properties;
+
+  /** Prefix used for RUCPrivate-related properties. */
+  private final String rucPrivatePrefix;
+
+  /** Initializes the properties object and sets the RUCPrivate prefix. */
+  RUCPrivatePropertiesConfig() {
+    this(PropertiesConfig.getInstance().getProperties());
+  }
+
+  /**
+   * Initializes the given properties object and sets the RUCPrivate prefix.
+   *
+   * @param properties Properties object containing the configuration properties.
+   */
+  RUCPrivatePropertiesConfig(Properties properties) {
+    rucPrivatePrefix = prefixValuePath.concat("ruc.private.");
+    this.properties = properties;
+  }
+
+  /**
+   * Method to get the singleton instance of RUCPrivatePropertiesConfig.
+   *
+   * @return Singleton instance of RUCPrivatePropertiesConfig.
+   */
+  public static RUCPrivatePropertiesConfig getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Method to get the regular expression property.
+   *
+   * @return Regular expression property value.
+   */
+  @Override
+  public String getRegexp() {
+    return properties.getProperty(rucPrivatePrefix.concat("regexp"));
+  }
+
+  /**
+   * Method to get the province initial index property.
+   *
+   * @return Province initial index property value.
+   */
+  @Override
+  public String getProvinceInitialIndex() {
+    return properties.getProperty(rucPrivatePrefix.concat("province.index.initial"));
+  }
+
+  /**
+   * Method to get the province final index property.
+   *
+   * @return Province final index property value.
+   */
+  @Override
+  public String getProvinceFinalIndex() {
+    return properties.getProperty(rucPrivatePrefix.concat("province.index.final"));
+  }
+
+  /**
+   * Method to get the province list property.
+   *
+   * @return Province list property value.
+   */
+  @Override
+  public String getProvinceList() {
+    return properties.getProperty(rucPrivatePrefix.concat("list.province"));
+  }
+
+  /**
+   * Method to get the index list property.
+   *
+   * @return Index list property value.
+   */
+  @Override
+  public String getIndexList() {
+    return properties.getProperty(rucPrivatePrefix.concat("list.index"));
+  }
+
+  /**
+   * Method to get the coefficient list property.
+   *
+   * @return Coefficient list property value.
+   */
+  @Override
+  public String getCoefficientList() {
+    return properties.getProperty(rucPrivatePrefix.concat("list.coefficient"));
+  }
+
+  /**
+   * Method to get the adjuster property.
+   *
+   * @return Adjuster property value.
+   */
+  @Override
+  public String getAdjuster() {
+    return properties.getProperty(rucPrivatePrefix.concat("adjuster"));
+  }
+
+  /**
+   * Method to get the last check digit index property.
+   *
+   * @return Last check digit index property value.
+   */
+  @Override
+  public String getLastCheckDigitIndex() {
+    return properties.getProperty(rucPrivatePrefix.concat("last-check-digit.index"));
+  }
+
+  /**
+   * Method to get the adjuster max value property.
+   *
+   * @return Adjuster max value property value.
+   */
+  @Override
+  public String getAdjusterMaxValue() {
+    return properties.getProperty(rucPrivatePrefix.concat("adjuster.max-value"));
+  }
+
+  /**
+   * Method to get the adjuster subtrahend property.
+   *
+   * @return Adjuster subtrahend property value.
+   */
+  @Override
+  public String getAdjusterSubtrahend() {
+    return properties.getProperty(rucPrivatePrefix.concat("adjuster.subtrahend"));
+  }
+
+  /**
+   * Method to get the last check digit max value property.
+   *
+   * @return Last check digit max value property value.
+   */
+  @Override
+  public String getLastCheckDigitMaxValue() {
+    return properties.getProperty(rucPrivatePrefix.concat("last-check-digit.max-value"));
+  }
+
+  /**
+   * Method to get the last check digit divisor property.
+   *
+   * @return Last check digit divisor property value.
+   */
+  @Override
+  public String getLastCheckDigitDivisor() {
+    return properties.getProperty(rucPrivatePrefix.concat("last-check-digit.divisor"));
+  }
+
+  /**
+   * Method to get the first comparison value property.
+   *
+   * @return First comparison value property value.
+   */
+  @Override
+  public String getFirstComparisonValue() {
+    return properties.getProperty(rucPrivatePrefix.concat("comparison.value"));
+  }
+
+  /**
+   * Method to get the second comparison minuend property.
+   *
+   * @return Second comparison minuend property value.
+   */
+  @Override
+  public String getSecondComparisonMinuend() {
+    return properties.getProperty(rucPrivatePrefix.concat("comparison.minuend"));
+  }
+
+  /**
+   * Method to get the compiled property.
+   *
+   * @return Compiled property value.
+   */
+  @Override
+  public String getCompiled() {
+    return properties.getProperty(rucPrivatePrefix.concat("compiled"));
+  }
+
+  /**
+   * Method to get the metrics property.
+   *
+   * @return Metrics property value.
+   */
+  @Override
+  public String getMetrics() {
+    return properties.getProperty(rucPrivatePrefix.concat("metrics"));
+  }
+
+  /**
+   * Method to get the type digit index property.
+   *
+   * @return Type digit index property value.
+   */
+  public String getTypeIndex() {
+    return properties.getProperty(rucPrivatePrefix.concat("type.index"));
+  }
+
+  /**
+   * Method to get the type digit list property.
+   *
+   * @return Type digit list property value.
+   */
+  public String getTypeList() {
+    return properties.getProperty(rucPrivatePrefix.concat("list.type"));
+  }
+
+  /**
+   * Method to get the establishment initial index property.
+   *
+   * @return Establishment initial index property value.
+   */
+  public String getEstablishmentInitialIndex() {
+    return properties.getProperty(rucPrivatePrefix.concat("establishment.index.initial"));
+  }
+
+  /**
+   * Method to get the establishment final index property.
+   *
+   * @return Establishment final index property value.
+   */
+  public String getEstablishmentFinalIndex() {
+    return properties.getProperty(rucPrivatePrefix.concat("establishment.index.final"));
+  }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of RUCPrivatePropertiesConfig. */
+    private static final RUCPrivatePropertiesConfig INSTANCE = new RUCPrivatePropertiesConfig();
+  }
+}
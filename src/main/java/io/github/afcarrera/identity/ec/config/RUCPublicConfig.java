@@ -0,0 +1,114 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.config;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+import io.github.afcarrera.identity.ec.handler.impl.*;
+import io.github.afcarrera.identity.ec.metrics.InstrumentedIdentityHandler;
+import java.util.List;
+
+/**
+ * Singleton configuration class for setting up the identity validation chain.
+ *
+ * <p>This class initializes and links various handlers to form a chain for validating the RUC of
+ * public entities based on configured properties.
+ */
+public final class RUCPublicConfig {
+
+  /** Name of the chain, under which its metrics are registered. */
+  public static final String CHAIN_NAME = "RUCPublic";
+
+  /**
+   * Constructor for RUCPublicConfig.
+   *
+   * <p>The chain is built with every other chain, from the classpath configuration, the first time
+   * any of them is used, and rebuilt when the configuration is reloaded.
+   */
+  RUCPublicConfig() {}
+
+  /**
+   * Creates the chain that validates a RUCPublic value in a single pass over its characters.
+   *
+   * <p>The chain checks the format, the type digit and the establishment number of the value, and
+   * its modulo 11 check digit with the same handlers as a CI. It is instrumented when the RUCPublic
+   * metrics are enabled.
+   *
+   * @param rucPublicPropertiesConfig The RUCPublic configuration properties.
+   * @return First element in the identity handler chain.
+   */
+  static IdentityHandler<IdentityDocument> createChain(
+      RUCPublicPropertiesConfig rucPublicPropertiesConfig) {
+    IdentityHandler<IdentityDocument> firstChainElement =
+        IdentityConfigUtil.createCheckDigitChain(
+            rucPublicPropertiesConfig,
+            rucPublicPropertiesConfig.getRegexp(),
+            0,
+            List.of(
+                new TypeDigitHandler(
+                    Integer.parseInt(rucPublicPropertiesConfig.getTypeIndex()),
+                    IdentityConfigUtil.getStringSetFromProperty(
+                        rucPublicPropertiesConfig.getTypeList())),
+                new EstablishmentHandler(
+                    Integer.parseInt(rucPublicPropertiesConfig.getEstablishmentInitialIndex()),
+                    Integer.parseInt(rucPublicPropertiesConfig.getEstablishmentFinalIndex()))));
+    return Boolean.parseBoolean(rucPublicPropertiesConfig.getMetrics())
+        ? InstrumentedIdentityHandler.instrument(firstChainElement)
+        : firstChainElement;
+  }
+
+  /**
+   * Method to get the singleton instance of RUCPublicConfig.
+   *
+   * @return Singleton instance of RUCPublicConfig.
+   */
+  public static RUCPublicConfig getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Method to get the first element in the identity handler chain.
+   *
+   * @return First element in the identity handler chain.
+   */
+  public IdentityHandler<IdentityDocument> getFirstChainElement() {
+    return DocumentValidatorConfig.getSnapshot().getRUCPublic().getFirstChainElement();
+  }
+
+  /**
+   * Method to get the RUCPublic properties the current chain was built from, which follow the
+   * reloads of the configuration.
+   *
+   * @return The current RUCPublic configuration properties.
+   */
+  public RUCPublicPropertiesConfig getPropertiesConfig() {
+    return DocumentValidatorConfig.getSnapshot().getRUCPublic().getPropertiesConfig();
+  }
+
+  /**
+   * Method to get the number of digits of the current RUCPublic format.
+   *
+   * @return The number of digits, or -1 if the format is not a plain digit pattern.
+   */
+  public int getLength() {
+    return DocumentValidatorConfig.getSnapshot().getRUCPublic().getLength();
+  }
+
+  /** Holder of the singleton instance, created by the JVM on the first call to getInstance. */
+  private static final class Holder {
+
+    /** Singleton instance of RUCPublicConfig. */
+    private static final RUCPublicConfig INSTANCE = new RUCPublicConfig();
+  }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.domain;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class representing a sequence of ASCII characters backed by a range of a byte array.
+ *
+ * <p>This class lets identity values be validated directly out of a byte buffer, without decoding
+ * them into a {@link String}. A sequence can be moved to another range with {@link #wrap(byte[],
+ * int, int)}, so a single instance can be reused for every value of a buffer; it is therefore not
+ * thread-safe, and it reflects any later change to the bytes it wraps.
+ */
+public final class AsciiSequence implements CharSequence {
+
+  /** Empty byte array wrapped by a new sequence. */
+  private static final byte[] EMPTY = new byte[0];
+
+  /** The byte array holding the characters. */
+  private byte[] bytes = EMPTY;
+
+  /** Index of the first character in the byte array. */
+  private int offset;
+
+  /** Number of characters of the sequence. */
+  private int length;
+
+  /** Default constructor creating an empty sequence. */
+  public AsciiSequence() {}
+
+  /**
+   * Constructor for AsciiSequence.
+   *
+   * @param bytes The byte array holding the characters.
+   * @param offset Index of the first character in the byte array.
+   * @param length Number of characters of the sequence.
+   */
+  public AsciiSequence(byte[] bytes, int offset, int length) {
+    wrap(bytes, offset, length);
+  }
+
+  /**
+   * Moves the sequence to a range of a byte array.
+   *
+   * @param bytes The byte array holding the characters.
+   * @param offset Index of the first character in the byte array.
+   * @param length Number of characters of the sequence.
+   * @return This sequence.
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the byte array.
+   */
+  public AsciiSequence wrap(byte[] bytes, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > bytes.length - length) {
+      throw new IndexOutOfBoundsException("Invalid range.");
+    }
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    return this;
+  }
+
+  /**
+   * Gets the byte array holding the characters.
+   *
+   * @return The byte array holding the characters.
+   */
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Gets the index of the first character in the byte array.
+   *
+   * @return The index of the first character.
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Invalid index.");
+    }
+    return (char) (bytes[offset + index] & 0xFF);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The subsequence is a copy, so it is not affected by later changes to the bytes.
+   */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || start > end || end > length) {
+      throw new IndexOutOfBoundsException("Invalid range.");
+    }
+    return new String(bytes, offset + start, end - start, StandardCharsets.ISO_8859_1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+  }
+}
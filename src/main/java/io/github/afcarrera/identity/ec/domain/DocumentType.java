@@ -0,0 +1,33 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.domain;
+
+/** Types of identity documents recognized by the library. */
+public enum DocumentType {
+
+  /** CI (Identity Card) of a natural person. */
+  CI,
+
+  /** RUC (Single Taxpayer Registry) of a natural person. */
+  RUC_NATURAL,
+
+  /** RUC (Single Taxpayer Registry) of a private company. */
+  RUC_PRIVATE,
+
+  /** RUC (Single Taxpayer Registry) of a public entity. */
+  RUC_PUBLIC,
+
+  /** A value that does not have the shape of any known identity document. */
+  UNKNOWN
+}
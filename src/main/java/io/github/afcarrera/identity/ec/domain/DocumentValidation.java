@@ -0,0 +1,110 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.domain;
+
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+
+/**
+ * Result of validating a value that may hold any type of identity document.
+ *
+ * <p>Instances are immutable and shared: there is one for each combination of document type and
+ * rejection reason, so getting a result allocates nothing.
+ */
+public final class DocumentValidation {
+
+  /** Shared results, indexed by document type and then by rejection reason code. */
+  private static final DocumentValidation[][] RESULTS = createResults();
+
+  /** The detected document type. */
+  private final DocumentType documentType;
+
+  /** The reason why the value was rejected, or {@link RejectionReason#NONE} if it is valid. */
+  private final RejectionReason rejectionReason;
+
+  /**
+   * Constructor for DocumentValidation.
+   *
+   * @param documentType The detected document type.
+   * @param rejectionReason The reason why the value was rejected.
+   */
+  private DocumentValidation(DocumentType documentType, RejectionReason rejectionReason) {
+    this.documentType = documentType;
+    this.rejectionReason = rejectionReason;
+  }
+
+  /**
+   * Gets the result of a validation.
+   *
+   * @param documentType The detected document type.
+   * @param rejectionReason The reason why the value was rejected, or {@link RejectionReason#NONE}
+   *     if it is valid.
+   * @return The shared result.
+   */
+  public static DocumentValidation of(DocumentType documentType, RejectionReason rejectionReason) {
+    return RESULTS[documentType.ordinal()][rejectionReason.getCode()];
+  }
+
+  /**
+   * Gets the detected document type.
+   *
+   * @return The detected document type, or {@link DocumentType#UNKNOWN} if the value does not have
+   *     the shape of any known identity document.
+   */
+  public DocumentType getDocumentType() {
+    return documentType;
+  }
+
+  /**
+   * Checks whether the value is a valid document of the detected type.
+   *
+   * @return `true` if the value is valid, otherwise `false`.
+   */
+  public boolean isValid() {
+    return rejectionReason == RejectionReason.NONE;
+  }
+
+  /**
+   * Gets the reason why the value was rejected.
+   *
+   * @return The rejection reason, or {@link RejectionReason#NONE} if the value is valid.
+   */
+  public RejectionReason getRejectionReason() {
+    return rejectionReason;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return documentType + (isValid() ? " (valid)" : " (" + rejectionReason + ")");
+  }
+
+  /**
+   * Creates the shared results.
+   *
+   * @return The shared results, indexed by document type and then by rejection reason code.
+   */
+  private static DocumentValidation[][] createResults() {
+    DocumentType[] documentTypes = DocumentType.values();
+    RejectionReason[] rejectionReasons = RejectionReason.values();
+    DocumentValidation[][] results =
+        new DocumentValidation[documentTypes.length][rejectionReasons.length];
+    for (DocumentType documentType : documentTypes) {
+      for (RejectionReason rejectionReason : rejectionReasons) {
+        results[documentType.ordinal()][rejectionReason.getCode()] =
+            new DocumentValidation(documentType, rejectionReason);
+      }
+    }
+    return results;
+  }
+}
@@ -13,33 +13,59 @@
  */
 package io.github.afcarrera.identity.ec.domain;
 
-import java.util.List;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
 
 /**
  * Class representing an identity document.
  *
  * <p>This class contains various fields related to the identity document's value, including lists
- * of integers and specific digits used for validation.
+ * of integers and specific digits used for validation. The lists are kept in primitive buffers that
+ * grow as needed and are reused from one value to the next, so a document confined to a thread
+ * stops allocating once its buffers fit the longest value.
  */
 public class IdentityDocument {
 
-  /** The value of the identity document as a string. */
-  private String value;
+  /** Initial capacity of the integer buffers. */
+  private static final int INITIAL_CAPACITY = 16;
 
-  /** A list of integer values derived from the identity document. */
-  private List<Integer> valueList;
+  /** Maximum number of characters of a number written as digits, including its sign. */
+  private static final int MAX_NUMBER_LENGTH = 20;
 
-  /** A sublist of integer values derived from the identity document. */
-  private List<Integer> valueSublist;
+  /** The value of the identity document as a sequence of characters. */
+  private CharSequence value;
 
-  /** A list of integer values used for multiplication in validation processes. */
-  private List<Integer> multiplicationList;
+  /** A buffer holding the digits of a numeric value. */
+  private final byte[] digitBuffer = new byte[MAX_NUMBER_LENGTH];
+
+  /** A reusable sequence over the bytes of a numeric or ASCII value. */
+  private final AsciiSequence asciiSequence = new AsciiSequence();
+
+  /** A buffer of integer values derived from the identity document. */
+  private int[] valueList = new int[INITIAL_CAPACITY];
+
+  /** Number of integer values in the value list buffer. */
+  private int valueListSize;
+
+  /** A buffer of the sublist of integer values derived from the identity document. */
+  private int[] valueSublist = new int[INITIAL_CAPACITY];
+
+  /** Number of integer values in the sublist buffer. */
+  private int valueSublistSize;
+
+  /** A buffer of integer values used for multiplication in validation processes. */
+  private int[] multiplicationList = new int[INITIAL_CAPACITY];
+
+  /** Number of integer values in the multiplication list buffer. */
+  private int multiplicationListSize;
 
   /** The last check digit of the identity document. */
-  private Integer lastCheckDigit;
+  private int lastCheckDigit;
 
   /** The last digit of the identity document. */
-  private Integer lastDigit;
+  private int lastDigit;
+
+  /** The exception with which a handler rejected the identity document, if any. */
+  private IdentityDocumentException rejection;
 
   /** Default constructor. */
   public IdentityDocument() {}
@@ -49,7 +75,7 @@ public class IdentityDocument {
    *
    * @return The value of the identity document.
    */
-  public String getValue() {
+  public CharSequence getValue() {
     return value;
   }
 
@@ -58,62 +84,150 @@ public class IdentityDocument {
    *
    * @param value The value to set.
    */
-  public void setValue(String value) {
+  public void setValue(CharSequence value) {
     this.value = value;
   }
 
   /**
-   * Gets the list of integer values derived from the identity document.
+   * Sets the value of the identity document to a range of ASCII bytes.
+   *
+   * <p>The bytes are not copied, so they must not change while the document is processed.
+   *
+   * @param bytes The bytes holding the value.
+   * @param offset The index of the first byte of the value.
+   * @param length The number of bytes of the value.
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the byte array.
+   */
+  public void setValue(byte[] bytes, int offset, int length) {
+    this.value = asciiSequence.wrap(bytes, offset, length);
+  }
+
+  /**
+   * Sets the value of the identity document to the decimal digits of a number, zero-padded on the
+   * left to the given length.
    *
-   * @return The list of integer values.
+   * <p>The digits are written to a buffer of the document, so no string is created. A number with
+   * more digits than the length keeps all of them, and a negative number is preceded by a minus
+   * sign, so that the value is rejected by the length and format checks.
+   *
+   * @param number The number to set.
+   * @param length The number of digits of the value, between 1 and 19.
+   * @throws IdentityDocumentException If the length is out of range.
+   */
+  public void setValue(long number, int length) {
+    if (length < 1 || length >= MAX_NUMBER_LENGTH) {
+      throw new IdentityDocumentException("Invalid numeric length.");
+    }
+    int index = MAX_NUMBER_LENGTH;
+    long remaining = number;
+    do {
+      digitBuffer[--index] = (byte) ('0' + Math.abs(remaining % 10));
+      remaining /= 10;
+    } while (remaining != 0);
+    while (MAX_NUMBER_LENGTH - index < length) {
+      digitBuffer[--index] = '0';
+    }
+    if (number < 0) {
+      digitBuffer[--index] = '-';
+    }
+    this.value = asciiSequence.wrap(digitBuffer, index, MAX_NUMBER_LENGTH - index);
+  }
+
+  /**
+   * Gets the buffer of integer values derived from the identity document.
+   *
+   * <p>Only the first {@link #getValueListSize()} elements are meaningful.
+   *
+   * @return The buffer of integer values.
    */
-  public List<Integer> getValueList() {
+  public int[] getValueList() {
     return valueList;
   }
 
   /**
-   * Sets the list of integer values derived from the identity document.
+   * Gets the number of integer values derived from the identity document.
    *
-   * @param valueList The list of integer values to set.
+   * @return The number of integer values.
    */
-  public void setValueList(List<Integer> valueList) {
-    this.valueList = valueList;
+  public int getValueListSize() {
+    return valueListSize;
   }
 
   /**
-   * Gets the sublist of integer values derived from the identity document.
+   * Prepares the buffer of integer values to hold the given number of values.
+   *
+   * @param size The number of integer values to be written.
+   * @return The buffer in which the integer values must be written.
+   */
+  public int[] prepareValueList(int size) {
+    valueList = ensureCapacity(valueList, size);
+    valueListSize = size;
+    return valueList;
+  }
+
+  /**
+   * Gets the buffer of the sublist of integer values derived from the identity document.
+   *
+   * <p>Only the first {@link #getValueSublistSize()} elements are meaningful.
    *
-   * @return The sublist of integer values.
+   * @return The buffer of the sublist of integer values.
    */
-  public List<Integer> getValueSublist() {
+  public int[] getValueSublist() {
     return valueSublist;
   }
 
   /**
-   * Sets the sublist of integer values derived from the identity document.
+   * Gets the number of integer values in the sublist.
    *
-   * @param valueSublist The sublist of integer values to set.
+   * @return The number of integer values in the sublist.
    */
-  public void setValueSublist(List<Integer> valueSublist) {
-    this.valueSublist = valueSublist;
+  public int getValueSublistSize() {
+    return valueSublistSize;
   }
 
   /**
-   * Gets the list of integer values used for multiplication in validation processes.
+   * Prepares the buffer of the sublist to hold the given number of values.
    *
-   * @return The list of integer values used for multiplication.
+   * @param size The number of integer values to be written.
+   * @return The buffer in which the integer values must be written.
    */
-  public List<Integer> getMultiplicationList() {
+  public int[] prepareValueSublist(int size) {
+    valueSublist = ensureCapacity(valueSublist, size);
+    valueSublistSize = size;
+    return valueSublist;
+  }
+
+  /**
+   * Gets the buffer of integer values used for multiplication in validation processes.
+   *
+   * <p>Only the first {@link #getMultiplicationListSize()} elements are meaningful.
+   *
+   * @return The buffer of integer values used for multiplication.
+   */
+  public int[] getMultiplicationList() {
     return multiplicationList;
   }
 
   /**
-   * Sets the list of integer values used for multiplication in validation processes.
+   * Gets the number of integer values used for multiplication.
    *
-   * @param multiplicationList The list of integer values to set.
+   * @return The number of integer values used for multiplication.
    */
-  public void setMultiplicationList(List<Integer> multiplicationList) {
-    this.multiplicationList = multiplicationList;
+  public int getMultiplicationListSize() {
+    return multiplicationListSize;
+  }
+
+  /**
+   * Prepares the buffer of integer values used for multiplication to hold the given number of
+   * values.
+   *
+   * @param size The number of integer values to be written.
+   * @return The buffer in which the integer values must be written.
+   */
+  public int[] prepareMultiplicationList(int size) {
+    multiplicationList = ensureCapacity(multiplicationList, size);
+    multiplicationListSize = size;
+    return multiplicationList;
   }
 
   /**
@@ -121,7 +235,7 @@ public class IdentityDocument {
    *
    * @return The last check digit.
    */
-  public Integer getLastCheckDigit() {
+  public int getLastCheckDigit() {
     return lastCheckDigit;
   }
 
@@ -130,7 +244,7 @@ public class IdentityDocument {
    *
    * @param lastCheckDigit The last check digit to set.
    */
-  public void setLastCheckDigit(Integer lastCheckDigit) {
+  public void setLastCheckDigit(int lastCheckDigit) {
     this.lastCheckDigit = lastCheckDigit;
   }
 
@@ -139,7 +253,7 @@ public class IdentityDocument {
    *
    * @return The last digit.
    */
-  public Integer getLastDigit() {
+  public int getLastDigit() {
     return lastDigit;
   }
 
@@ -148,7 +262,36 @@ public class IdentityDocument {
    *
    * @param lastDigit The last digit to set.
    */
-  public void setLastDigit(Integer lastDigit) {
+  public void setLastDigit(int lastDigit) {
     this.lastDigit = lastDigit;
   }
+
+  /**
+   * Gets the exception with which a handler rejected the identity document.
+   *
+   * @return The rejection, or null if the identity document was not rejected.
+   */
+  public IdentityDocumentException getRejection() {
+    return rejection;
+  }
+
+  /**
+   * Sets the exception with which a handler rejected the identity document.
+   *
+   * @param rejection The rejection to set.
+   */
+  public void setRejection(IdentityDocumentException rejection) {
+    this.rejection = rejection;
+  }
+
+  /**
+   * Returns a buffer able to hold the given number of values.
+   *
+   * @param buffer The current buffer.
+   * @param size The number of values the buffer must hold.
+   * @return The current buffer if it is large enough, otherwise a new larger one.
+   */
+  private static int[] ensureCapacity(int[] buffer, int size) {
+    return buffer.length >= size ? buffer : new int[Math.max(size, buffer.length * 2)];
+  }
 }
@@ -29,4 +29,24 @@ public class IdentityDocumentException extends RuntimeException {
   public IdentityDocumentException(String message) {
     super(message);
   }
+
+  /**
+   * Constructor for IdentityDocumentException with the cause of the error.
+   *
+   * @param message The error message to be associated with this exception.
+   * @param cause The exception that caused this one.
+   */
+  public IdentityDocumentException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  /**
+   * Constructor for IdentityDocumentException allowing the stack trace to be disabled.
+   *
+   * @param message The error message to be associated with this exception.
+   * @param writableStackTrace Whether or not the stack trace should be captured.
+   */
+  protected IdentityDocumentException(String message, boolean writableStackTrace) {
+    super(message, null, false, writableStackTrace);
+  }
 }
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.exception;
+
+/**
+ * Exception describing that a handler rejected the value of an identity document.
+ *
+ * <p>This class extends {@link IdentityDocumentException} without capturing a stack trace, so each
+ * handler can preallocate its instances once and share them between threads. Handlers record these
+ * instances in the identity document rather than throwing them, and they report which handler
+ * rejected the value.
+ */
+public class IdentityRejectedException extends IdentityDocumentException {
+
+  /** Serial version of the class. */
+  private static final long serialVersionUID = 1L;
+
+  /** The class of the handler that rejected the value. */
+  private final Class<?> handlerClass;
+
+  /** The reason for which the value was rejected. */
+  private final RejectionReason reason;
+
+  /**
+   * Constructor for IdentityRejectedException, with the {@link RejectionReason#OTHER} reason.
+   *
+   * @param handlerClass The class of the handler that rejected the value.
+   * @param message The error message to be associated with this exception.
+   */
+  public IdentityRejectedException(Class<?> handlerClass, String message) {
+    this(handlerClass, message, RejectionReason.OTHER);
+  }
+
+  /**
+   * Constructor for IdentityRejectedException.
+   *
+   * @param handlerClass The class of the handler that rejected the value.
+   * @param message The error message to be associated with this exception.
+   * @param reason The reason for which the value was rejected.
+   */
+  public IdentityRejectedException(Class<?> handlerClass, String message, RejectionReason reason) {
+    super(message, false);
+    this.handlerClass = handlerClass;
+    this.reason = reason;
+  }
+
+  /**
+   * Gets the class of the handler that rejected the value.
+   *
+   * @return The class of the handler.
+   */
+  public Class<?> getHandlerClass() {
+    return handlerClass;
+  }
+
+  /**
+   * Gets the reason for which the value was rejected.
+   *
+   * @return The reason of the rejection.
+   */
+  public RejectionReason getReason() {
+    return reason;
+  }
+
+  /**
+   * Gets the class under which a rejection is reported.
+   *
+   * @param rejection The rejection.
+   * @return The class of the rejecting handler, or the exception class if it is unknown.
+   */
+  public static Class<?> getSourceClass(IdentityDocumentException rejection) {
+    return rejection instanceof IdentityRejectedException
+        ? ((IdentityRejectedException) rejection).getHandlerClass()
+        : rejection.getClass();
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.exception;
+
+/**
+ * Reasons for which the value of an identity document is rejected.
+ *
+ * <p>Each preallocated {@link IdentityRejectedException} of a handler carries its reason, so the
+ * reason of a rejection is known without creating any object. Each reason has a stable numeric
+ * code, suited to be stored or aggregated.
+ */
+public enum RejectionReason {
+
+  /** The value was not rejected. */
+  NONE(0),
+
+  /** The value does not have the expected length. */
+  INVALID_LENGTH(1),
+
+  /** The value does not match the expected format. */
+  INVALID_FORMAT(2),
+
+  /** The value does not hold a valid province code. */
+  INVALID_PROVINCE(3),
+
+  /** The value does not hold a valid type digit. */
+  INVALID_TYPE_DIGIT(4),
+
+  /** The value does not hold a valid establishment number. */
+  INVALID_ESTABLISHMENT(5),
+
+  /** The check digit cannot be calculated from the value. */
+  CHECK_DIGIT_UNAVAILABLE(6),
+
+  /** The check digit does not match when the calculated value equals the first comparison value. */
+  FIRST_COMPARISON_MISMATCH(7),
+
+  /** The check digit does not match the difference with the second comparison minuend. */
+  SECOND_COMPARISON_MISMATCH(8),
+
+  /** The value was rejected for a reason not described by the other constants. */
+  OTHER(9);
+
+  /** Reasons indexed by their code. */
+  private static final RejectionReason[] BY_CODE = values();
+
+  /** The numeric code of the reason. */
+  private final int code;
+
+  /**
+   * Constructor for RejectionReason.
+   *
+   * @param code The numeric code of the reason.
+   */
+  RejectionReason(int code) {
+    this.code = code;
+  }
+
+  /**
+   * Gets the numeric code of the reason.
+   *
+   * @return The numeric code.
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * Gets the reason of a numeric code.
+   *
+   * @param code The numeric code.
+   * @return The reason of the code.
+   * @throws IdentityDocumentException If the code is unknown.
+   */
+  public static RejectionReason fromCode(int code) {
+    if (code < 0 || code >= BY_CODE.length) {
+      throw new IdentityDocumentException("Unknown rejection reason code: " + code);
+    }
+    return BY_CODE[code];
+  }
+
+  /**
+   * Gets the reason of a rejection.
+   *
+   * @param rejection The rejection, or null if the value was not rejected.
+   * @return The reason of the rejection, {@link #NONE} if there is no rejection, or {@link #OTHER}
+   *     if the rejection does not carry a reason.
+   */
+  public static RejectionReason of(IdentityDocumentException rejection) {
+    if (rejection == null) {
+      return NONE;
+    }
+    return rejection instanceof IdentityRejectedException
+        ? ((IdentityRejectedException) rejection).getReason()
+        : OTHER;
+  }
+}
@@ -0,0 +1,373 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.generator;
+
+import io.github.afcarrera.identity.ec.config.CIConfig;
+import io.github.afcarrera.identity.ec.config.CIPropertiesConfig;
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of CI (Identity Card) check digits and values.
+ *
+ * <p>This class calculates the check digit with the same configured rules as the CI chain: the
+ * digits at {@code list.index} are multiplied by {@code list.coefficient}, adjusted, summed and
+ * reduced with the {@code last-check-digit} settings, and the check digit is the one that satisfies
+ * the {@code comparison} settings. It can complete values missing their check digit and generate
+ * random valid values of a configured province, either one at a time or in bulk.
+ *
+ * <p>The rules are read when the generator is created, from the configuration the current CI chain
+ * was built from, so a generator created after {@link
+ * io.github.afcarrera.identity.ec.config.DocumentValidatorConfig#reload} follows the reloaded rules
+ * while existing ones keep theirs. Instances are immutable and thread-safe; the methods generating
+ * random values take the source of randomness as an argument.
+ */
+public class CIGenerator {
+
+  /** Maximum number of attempts to generate a value with a valid check digit. */
+  private static final int MAX_ATTEMPTS = 1000;
+
+  /** Number of digits of a CI. */
+  private final int length;
+
+  /** Valid numeric province codes. */
+  private final int[] provinceCodes;
+
+  /** Initial index of the province code. */
+  private final int provinceInitialIndex;
+
+  /** Number of digits of the province code. */
+  private final int provinceWidth;
+
+  /** Indexes of the digits taking part in the check digit calculation. */
+  private final int[] indexes;
+
+  /** Coefficients applied to each of the extracted digits. */
+  private final int[] coefficients;
+
+  /** Flag indicating whether the multiplied values need to be adjusted. */
+  private final boolean hasToAdjust;
+
+  /** The maximum value threshold for adjustment. */
+  private final int adjusterMaxValue;
+
+  /** The value to subtract from multiplied values that meet the adjustment condition. */
+  private final int adjusterSubtrahend;
+
+  /** The maximum value threshold for the last check digit modification. */
+  private final int lastCheckDigitMaxValue;
+
+  /** The divisor used for the last check digit modification. */
+  private final int lastCheckDigitDivisor;
+
+  /** The index of the check digit. */
+  private final int lastDigitIndex;
+
+  /** The value to compare against the last check digit. */
+  private final int firstComparisonValue;
+
+  /** The minuend used for the subtraction in the second comparison. */
+  private final int secondComparisonMinuend;
+
+  /**
+   * Constructor for CIGenerator using the current CI configuration.
+   *
+   * @throws IdentityDocumentException If the configured format is not a plain digit pattern, or the
+   *     configured indexes or province codes cannot be used to generate values.
+   */
+  public CIGenerator() {
+    CIPropertiesConfig ciPropertiesConfig = CIConfig.getInstance().getPropertiesConfig();
+    this.length = IdentityConfigUtil.getDigitPatternLength(ciPropertiesConfig.getRegexp());
+    this.provinceInitialIndex = Integer.parseInt(ciPropertiesConfig.getProvinceInitialIndex());
+    this.provinceWidth =
+        Integer.parseInt(ciPropertiesConfig.getProvinceFinalIndex()) - provinceInitialIndex;
+    this.provinceCodes =
+        IdentityConfigUtil.getStringSetFromProperty(ciPropertiesConfig.getProvinceList()).stream()
+            .filter(
+                code -> code.length() == provinceWidth && code.chars().allMatch(Character::isDigit))
+            .mapToInt(Integer::parseInt)
+            .sorted()
+            .toArray();
+    this.indexes =
+        toArray(IdentityConfigUtil.getIntegerListFromProperty(ciPropertiesConfig.getIndexList()));
+    this.coefficients =
+        toArray(
+            IdentityConfigUtil.getIntegerListFromProperty(ciPropertiesConfig.getCoefficientList()));
+    this.hasToAdjust = Boolean.parseBoolean(ciPropertiesConfig.getAdjuster());
+    this.adjusterMaxValue = Integer.parseInt(ciPropertiesConfig.getAdjusterMaxValue());
+    this.adjusterSubtrahend = Integer.parseInt(ciPropertiesConfig.getAdjusterSubtrahend());
+    this.lastCheckDigitMaxValue = Integer.parseInt(ciPropertiesConfig.getLastCheckDigitMaxValue());
+    this.lastCheckDigitDivisor = Integer.parseInt(ciPropertiesConfig.getLastCheckDigitDivisor());
+    this.lastDigitIndex = Integer.parseInt(ciPropertiesConfig.getLastCheckDigitIndex());
+    this.firstComparisonValue = Integer.parseInt(ciPropertiesConfig.getFirstComparisonValue());
+    this.secondComparisonMinuend =
+        Integer.parseInt(ciPropertiesConfig.getSecondComparisonMinuend());
+    checkRules();
+  }
+
+  /**
+   * Gets the number of digits of a CI.
+   *
+   * @return The number of digits of a CI.
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Calculates the check digit of a CI value.
+   *
+   * @param digits The CI value without its check digit, or the whole CI value, whose check digit is
+   *     then ignored.
+   * @return The check digit of the value.
+   * @throws IdentityDocumentException If the value does not hold the expected digits or no digit
+   *     satisfies the configured rules.
+   */
+  public int getCheckDigit(CharSequence digits) {
+    int[] values = new int[length];
+    boolean hasCheckDigit = digits.length() == length;
+    if (!hasCheckDigit && digits.length() != length - 1) {
+      throw new IdentityDocumentException("Invalid digits length.");
+    }
+    for (int i = 0, j = 0; i < length; i++) {
+      if (i == lastDigitIndex && !hasCheckDigit) {
+        continue;
+      }
+      char c = digits.charAt(j++);
+      if (c < '0' || c > '9') {
+        throw new IdentityDocumentException("Invalid digits.");
+      }
+      values[i] = c - '0';
+    }
+    return requireCheckDigit(values);
+  }
+
+  /**
+   * Completes a CI value missing its check digit.
+   *
+   * @param digits The CI value without its check digit.
+   * @return The CI value with its check digit inserted at its configured index.
+   * @throws IdentityDocumentException If the value does not hold the expected digits or no digit
+   *     satisfies the configured rules.
+   */
+  public String complete(CharSequence digits) {
+    if (digits.length() != length - 1) {
+      throw new IdentityDocumentException("Invalid digits length.");
+    }
+    int checkDigit = getCheckDigit(digits);
+    return new StringBuilder(length)
+        .append(digits, 0, lastDigitIndex)
+        .append((char) ('0' + checkDigit))
+        .append(digits, lastDigitIndex, digits.length())
+        .toString();
+  }
+
+  /**
+   * Completes a CI value stored as a number missing its check digit.
+   *
+   * @param digits The CI value without its check digit, as if it were zero-padded to its length.
+   * @return The CI value with its check digit inserted at its configured index.
+   * @throws IdentityDocumentException If the number has too many digits or no digit satisfies the
+   *     configured rules.
+   */
+  public long complete(long digits) {
+    if (digits < 0 || digits >= pow10(length - 1)) {
+      throw new IdentityDocumentException("Invalid digits length.");
+    }
+    int[] values = new int[length];
+    long remaining = digits;
+    for (int i = length - 1; i >= 0; i--) {
+      if (i != lastDigitIndex) {
+        values[i] = (int) (remaining % 10);
+        remaining /= 10;
+      }
+    }
+    values[lastDigitIndex] = requireCheckDigit(values);
+    return toLong(values);
+  }
+
+  /**
+   * Generates a random valid CI value.
+   *
+   * @param random The source of randomness.
+   * @return A valid CI value, as a number whose zero-padded digits form the value.
+   * @throws IdentityDocumentException If no valid value can be generated with the configured rules.
+   */
+  public long next(SplittableRandom random) {
+    int[] values = new int[length];
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      fillRandomDigits(values, random);
+      int checkDigit = calculateCheckDigit(values);
+      if (checkDigit >= 0 && checkDigit <= 9) {
+        values[lastDigitIndex] = checkDigit;
+        return toLong(values);
+      }
+    }
+    throw new IdentityDocumentException("No valid check digit.");
+  }
+
+  /**
+   * Generates random valid CI values.
+   *
+   * @param count The number of values to be generated.
+   * @param seed The seed of the source of randomness, so that the values can be reproduced.
+   * @return The valid CI values, as numbers whose zero-padded digits form the values.
+   */
+  public long[] generate(int count, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    long[] values = new long[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = next(random);
+    }
+    return values;
+  }
+
+  /**
+   * Generates random valid CI values packed as ASCII digits, with no separator between them.
+   *
+   * <p>The result can be processed with {@link
+   * io.github.afcarrera.identity.ec.processor.IdentityProcessor#process(byte[], int)}, using {@link
+   * #getLength()} as the width.
+   *
+   * @param count The number of values to be generated.
+   * @param seed The seed of the source of randomness, so that the values can be reproduced.
+   * @return The packed valid CI values.
+   */
+  public byte[] generatePacked(int count, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    byte[] packed = new byte[count * length];
+    for (int i = 0; i < count; i++) {
+      long value = next(random);
+      for (int j = (i + 1) * length - 1; j >= i * length; j--) {
+        packed[j] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+    }
+    return packed;
+  }
+
+  /**
+   * Fills the digits of a value with random digits, using a valid province code.
+   *
+   * @param values The digits of the value.
+   * @param random The source of randomness.
+   */
+  private void fillRandomDigits(int[] values, SplittableRandom random) {
+    for (int i = 0; i < length; i++) {
+      values[i] = random.nextInt(10);
+    }
+    int provinceCode = provinceCodes[random.nextInt(provinceCodes.length)];
+    for (int i = provinceInitialIndex + provinceWidth - 1; i >= provinceInitialIndex; i--) {
+      values[i] = provinceCode % 10;
+      provinceCode /= 10;
+    }
+  }
+
+  /**
+   * Calculates the check digit of a value, failing if no digit satisfies the rules.
+   *
+   * @param values The digits of the value.
+   * @return The check digit.
+   * @throws IdentityDocumentException If no digit satisfies the configured rules.
+   */
+  private int requireCheckDigit(int[] values) {
+    int checkDigit = calculateCheckDigit(values);
+    if (checkDigit < 0 || checkDigit > 9) {
+      throw new IdentityDocumentException("No valid check digit.");
+    }
+    return checkDigit;
+  }
+
+  /**
+   * Calculates the check digit of a value with the configured rules.
+   *
+   * @param values The digits of the value.
+   * @return The check digit, which may be out of the range of a digit.
+   */
+  private int calculateCheckDigit(int[] values) {
+    int sum = 0;
+    for (int i = 0; i < indexes.length; i++) {
+      int product = coefficients[i] * values[indexes[i]];
+      sum += hasToAdjust && product >= adjusterMaxValue ? product - adjusterSubtrahend : product;
+    }
+    int lastCheckDigit = sum >= lastCheckDigitMaxValue ? sum % lastCheckDigitDivisor : sum;
+    return lastCheckDigit == firstComparisonValue
+        ? firstComparisonValue
+        : secondComparisonMinuend - lastCheckDigit;
+  }
+
+  /**
+   * Checks that the configured rules can be used to generate values.
+   *
+   * @throws IdentityDocumentException If the rules cannot be used to generate values.
+   */
+  private void checkRules() {
+    if (length < 1 || length > 18) {
+      throw new IdentityDocumentException("Invalid CI format.");
+    }
+    if (lastDigitIndex < 0 || lastDigitIndex >= length || indexes.length != coefficients.length) {
+      throw new IdentityDocumentException("Invalid check digit rules.");
+    }
+    for (int index : indexes) {
+      if (index < 0 || index >= length || index == lastDigitIndex) {
+        throw new IdentityDocumentException("Invalid check digit rules.");
+      }
+    }
+    if (provinceCodes.length == 0
+        || provinceInitialIndex < 0
+        || provinceInitialIndex + provinceWidth > length) {
+      throw new IdentityDocumentException("Invalid province codes.");
+    }
+  }
+
+  /**
+   * Converts the digits of a value to a number.
+   *
+   * @param values The digits of the value.
+   * @return The number whose zero-padded digits form the value.
+   */
+  private static long toLong(int[] values) {
+    long value = 0;
+    for (int digit : values) {
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Calculates a power of ten.
+   *
+   * @param exponent The exponent.
+   * @return Ten raised to the exponent.
+   */
+  private static long pow10(int exponent) {
+    long value = 1;
+    for (int i = 0; i < exponent; i++) {
+      value *= 10;
+    }
+    return value;
+  }
+
+  /**
+   * Converts a list of integers to an array.
+   *
+   * @param list The list of integers.
+   * @return The array of integers.
+   */
+  private static int[] toArray(List<Integer> list) {
+    return list.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
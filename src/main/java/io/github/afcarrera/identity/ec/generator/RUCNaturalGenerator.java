@@ -0,0 +1,122 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.generator;
+
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
+import io.github.afcarrera.identity.ec.config.RUCNaturalConfig;
+import io.github.afcarrera.identity.ec.config.RUCNaturalPropertiesConfig;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of RUC (Registro Único de Contribuyentes) values for natural persons.
+ *
+ * <p>This class generates valid CI values with a {@link CIGenerator} and appends the establishment
+ * number of the main establishment, such as {@code 001}, to form RUC natural values.
+ *
+ * <p>The format is read when the generator is created, from the configuration the current RUC
+ * natural chain was built from, so a generator created after a reload follows it while existing
+ * ones keep theirs. Instances are immutable and thread-safe; the methods generating random values
+ * take the source of randomness as an argument.
+ */
+public class RUCNaturalGenerator {
+
+  /** Generator of the embedded CI values. */
+  private final CIGenerator ciGenerator;
+
+  /** Number of digits of a RUC natural. */
+  private final int length;
+
+  /** Multiplier shifting a CI value to the left of the establishment number. */
+  private final long ciMultiplier;
+
+  /**
+   * Constructor for RUCNaturalGenerator using the current CI and RUC natural configuration.
+   *
+   * @throws IdentityDocumentException If the configured format is not a plain digit pattern
+   *     starting with the CI, or the CI rules cannot be used to generate values.
+   */
+  public RUCNaturalGenerator() {
+    RUCNaturalPropertiesConfig rucNaturalPropertiesConfig =
+        RUCNaturalConfig.getInstance().getPropertiesConfig();
+    this.ciGenerator = new CIGenerator();
+    this.length = IdentityConfigUtil.getDigitPatternLength(rucNaturalPropertiesConfig.getRegexp());
+    int ciInitialIndex = Integer.parseInt(rucNaturalPropertiesConfig.getCIInitialIndex());
+    int ciFinalIndex = Integer.parseInt(rucNaturalPropertiesConfig.getCIFinalIndex());
+    if (ciInitialIndex != 0
+        || ciFinalIndex != ciGenerator.getLength()
+        || length <= ciFinalIndex
+        || length > 18) {
+      throw new IdentityDocumentException("Invalid RUC natural format.");
+    }
+    long multiplier = 1;
+    for (int i = ciFinalIndex; i < length; i++) {
+      multiplier *= 10;
+    }
+    this.ciMultiplier = multiplier;
+  }
+
+  /**
+   * Gets the number of digits of a RUC natural.
+   *
+   * @return The number of digits of a RUC natural.
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Completes a CI value missing its check digit into a RUC natural value.
+   *
+   * @param digits The CI value without its check digit.
+   * @return The RUC natural value of the main establishment of the completed CI.
+   * @throws IdentityDocumentException If the value does not hold the expected digits or no digit
+   *     satisfies the configured rules.
+   */
+  public String complete(CharSequence digits) {
+    String ci = ciGenerator.complete(digits);
+    StringBuilder builder = new StringBuilder(length).append(ci);
+    for (int i = ci.length(); i < length - 1; i++) {
+      builder.append('0');
+    }
+    return builder.append('1').toString();
+  }
+
+  /**
+   * Generates a random valid RUC natural value.
+   *
+   * @param random The source of randomness.
+   * @return A valid RUC natural value, as a number whose zero-padded digits form the value.
+   * @throws IdentityDocumentException If no valid value can be generated with the configured rules.
+   */
+  public long next(SplittableRandom random) {
+    return ciGenerator.next(random) * ciMultiplier + 1;
+  }
+
+  /**
+   * Generates random valid RUC natural values.
+   *
+   * @param count The number of values to be generated.
+   * @param seed The seed of the source of randomness, so that the values can be reproduced.
+   * @return The valid RUC natural values, as numbers whose zero-padded digits form the values.
+   */
+  public long[] generate(int count, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    long[] values = new long[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = next(random);
+    }
+    return values;
+  }
+}
@@ -14,11 +14,15 @@
 package io.github.afcarrera.identity.ec.handler;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
 
 /**
  * Abstract class for handling identity document processing.
  *
  * <p>Implements {@link IdentityHandler} for setting and checking the next handler in the chain.
+ * Handlers reject a value by recording the rejection in the identity document and not checking the
+ * next handler, which costs the same as accepting it; throwing an {@link IdentityDocumentException}
+ * is still supported.
  */
 public abstract class AbstractIdentityHandler implements IdentityHandler<IdentityDocument> {
 
@@ -33,9 +37,27 @@ public abstract class AbstractIdentityHandler implements IdentityHandler<Identit
     }
   }
 
+  /**
+   * Rejects the identity document, recording the rejection in it.
+   *
+   * <p>The caller must return without checking the next handler.
+   *
+   * @param context The identity document being processed.
+   * @param rejection The exception describing the rejection.
+   */
+  protected void reject(IdentityDocument context, IdentityDocumentException rejection) {
+    context.setRejection(rejection);
+  }
+
   /** {@inheritDoc} */
   @Override
   public void setNextHandler(IdentityHandler<IdentityDocument> nextHandler) {
     this.nextHandler = nextHandler;
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public IdentityHandler<IdentityDocument> getNextHandler() {
+    return nextHandler;
+  }
 }
@@ -17,12 +17,16 @@ package io.github.afcarrera.identity.ec.handler;
  * Interface for handling identity document processing.
  *
  * <p>This interface supports setting the next handler in a chain, processing the identity document,
- * and checking the next handler.
+ * and checking the next handler. Handlers may also declare their relative cost, so that independent
+ * checks can be ordered cheapest first when the chain is built.
  *
  * @param <T> The type of the context being processed.
  */
 public interface IdentityHandler<T> {
 
+  /** Relative cost of a handler that does not declare its own. */
+  int DEFAULT_COST = 100;
+
   /**
    * Sets the next handler in the chain of responsibility.
    *
@@ -30,6 +34,15 @@ public interface IdentityHandler<T> {
    */
   void setNextHandler(IdentityHandler<T> nextHandler);
 
+  /**
+   * Gets the next handler in the chain of responsibility.
+   *
+   * @return The next handler in the chain, or null if it is the last one or it is not known.
+   */
+  default IdentityHandler<T> getNextHandler() {
+    return null;
+  }
+
   /**
    * Processes the identity document context.
    *
@@ -43,4 +56,14 @@ public interface IdentityHandler<T> {
    * @param context The context to be processed by the next handler.
    */
   void checkNextHandler(T context);
+
+  /**
+   * Gets the relative cost of processing a context with this handler, roughly the number of
+   * characters it reads.
+   *
+   * @return The relative cost of the handler.
+   */
+  default int getCost() {
+    return DEFAULT_COST;
+  }
 }
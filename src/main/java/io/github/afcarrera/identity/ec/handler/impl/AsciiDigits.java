@@ -0,0 +1,106 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.handler.impl;
+
+import io.github.afcarrera.identity.ec.domain.AsciiSequence;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Utility class for validating that identity values backed by a byte array hold only digits.
+ *
+ * <p>Values backed by a byte array, such as an {@link AsciiSequence}, are read eight bytes at a
+ * time as a {@code long}, and a couple of mask comparisons check that the eight bytes are ASCII
+ * digits. A value whose length is not a multiple of eight ends with a word overlapping the previous
+ * one, so both a CI and a RUC take two words. Any other value is read one character at a time.
+ *
+ * <p>Only the format check is done a word at a time. The digits taking part in the check digit
+ * calculation are still extracted one at a time, by {@link StringToIntegerHandler} and {@link
+ * CompiledIdentityHandler}.
+ */
+final class AsciiDigits {
+
+  /** View reading eight bytes of a byte array as a little-endian {@code long}. */
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** Number of bytes in a word. */
+  private static final int WORD_SIZE = Long.BYTES;
+
+  /** Mask of the high nibble of each byte of a word. */
+  private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+
+  /** Word holding the high nibble shared by every digit, which is also eight '0' characters. */
+  private static final long ZEROS = 0x3030303030303030L;
+
+  /** Word moving the bytes '0' to '9' to 0x36 to 0x3F, keeping their high nibble. */
+  private static final long DIGIT_CARRY = 0x0606060606060606L;
+
+  /** Private constructor to prevent instantiation. */
+  private AsciiDigits() {}
+
+  /**
+   * Checks whether every character of a value is an ASCII digit.
+   *
+   * @param value The value to be checked.
+   * @return `true` if the value holds only digits, otherwise `false`.
+   */
+  static boolean isDigits(CharSequence value) {
+    int length = value.length();
+    if (value instanceof AsciiSequence && length >= WORD_SIZE) {
+      AsciiSequence sequence = (AsciiSequence) value;
+      byte[] bytes = sequence.getBytes();
+      int offset = sequence.getOffset();
+      for (int i = 0; i < length; i += WORD_SIZE) {
+        if (!isDigits(getWord(bytes, offset + Math.min(i, length - WORD_SIZE)))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads eight bytes of a byte array as a word.
+   *
+   * @param bytes The byte array.
+   * @param index The index of the first byte.
+   * @return The word, holding the first byte in its lowest bits.
+   */
+  private static long getWord(byte[] bytes, int index) {
+    return (long) LONG_VIEW.get(bytes, index);
+  }
+
+  /**
+   * Checks whether the eight bytes of a word are ASCII digits.
+   *
+   * <p>A byte is a digit when its high nibble is 3, and still is after adding 6 to it, which rules
+   * out 0x3A to 0x3F. The addition can only carry into the next byte from a byte whose high nibble
+   * is not 3, so a carry never turns a rejected word into an accepted one.
+   *
+   * @param word The word to be checked.
+   * @return `true` if the eight bytes are digits, otherwise `false`.
+   */
+  private static boolean isDigits(long word) {
+    return (word & HIGH_NIBBLES) == ZEROS && ((word + DIGIT_CARRY) & HIGH_NIBBLES) == ZEROS;
+  }
+}
@@ -14,11 +14,10 @@
 package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
-import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Handler for multiplying elements of a sublist from the identity document with a list of
@@ -30,8 +29,15 @@ import java.util.stream.IntStream;
  */
 public class CoefficientMultiplicationHandler extends AbstractIdentityHandler {
 
-  /** List of coefficients used for multiplication. */
-  private final List<Integer> coefficientList;
+  /** Exception thrown when the coefficients cannot be multiplied. */
+  static final IdentityRejectedException FAILED_MULTIPLICATION =
+      new IdentityRejectedException(
+          CoefficientMultiplicationHandler.class,
+          "Failed to multiply coefficients.",
+          RejectionReason.CHECK_DIGIT_UNAVAILABLE);
+
+  /** Coefficients used for multiplication. */
+  private final int[] coefficients;
 
   /**
    * Constructor for CoefficientMultiplicationHandler.
@@ -39,7 +45,7 @@ public class CoefficientMultiplicationHandler extends AbstractIdentityHandler {
    * @param coefficientList The list of coefficients to be used for multiplication.
    */
   public CoefficientMultiplicationHandler(List<Integer> coefficientList) {
-    this.coefficientList = coefficientList;
+    this.coefficients = coefficientList.stream().mapToInt(Integer::intValue).toArray();
   }
 
   /**
@@ -47,30 +53,22 @@ public class CoefficientMultiplicationHandler extends AbstractIdentityHandler {
    *
    * <p>The resulting multiplication list is then set in the context.
    *
+   * <p>If the size of the coefficient list does not match the size of the sublist, the identity
+   * document is rejected.
+   *
    * @param context The identity document to be processed.
-   * @throws IdentityDocumentException If the size of the coefficient list does not match the size
-   *     of the sublist.
    */
   @Override
   public void process(IdentityDocument context) {
-    if (coefficientList.size() != context.getValueSublist().size()) {
-      throw new IdentityDocumentException("Failed to multiply coefficients.");
+    if (coefficients.length != context.getValueSublistSize()) {
+      reject(context, FAILED_MULTIPLICATION);
+      return;
+    }
+    int[] subValueList = context.getValueSublist();
+    int[] multiplicationList = context.prepareMultiplicationList(coefficients.length);
+    for (int i = 0; i < coefficients.length; i++) {
+      multiplicationList[i] = coefficients[i] * subValueList[i];
     }
-    List<Integer> multiplicationList = getMultipliedList(context.getValueSublist());
-    context.setMultiplicationList(multiplicationList);
     checkNextHandler(context);
   }
-
-  /**
-   * Multiplies elements of the sublist with the corresponding elements of the coefficient list.
-   *
-   * @param subValueList The sublist of integers to be multiplied.
-   * @return The list of multiplied values.
-   */
-  private List<Integer> getMultipliedList(List<Integer> subValueList) {
-    return IntStream.range(0, coefficientList.size())
-        .map(i -> coefficientList.get(i) * subValueList.get(i))
-        .boxed()
-        .collect(Collectors.toList());
-  }
 }
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.handler.impl;
+
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Handler that validates an identity document in a single pass over its characters.
+ *
+ * <p>This class extends {@link AbstractIdentityHandler} and performs the same checks as the chain
+ * built from {@link LengthHandler}, {@link RegexHandler}, {@link ProvinceCodeHandler}, {@link
+ * StringToIntegerHandler}, {@link SubListExtractorHandler}, {@link
+ * CoefficientMultiplicationHandler}, {@link ListValueAdjusterHandler}, {@link ListSumHandler},
+ * {@link LastCheckDigitModHandler}, {@link LastDigitHandler}, {@link FirstComparisonHandler} and
+ * {@link SecondComparisonHandler}, using primitive arithmetic instead of intermediate lists.
+ *
+ * <p>A null value is rejected as an invalid format. The checks then run in the order of that chain:
+ * the length, the format, the province code, and finally the check digit, so each value is rejected
+ * with the same rejection as by the chain.
+ */
+public class CompiledIdentityHandler extends AbstractIdentityHandler {
+
+  /** Value returned when no check digit can be calculated. */
+  private static final int NO_CHECK_DIGIT = Integer.MIN_VALUE;
+
+  /** Expected length of the value, or -1 when the regex is not a plain digit pattern. */
+  private final int length;
+
+  /** Compiled regular expression, used only when the regex is not a plain digit pattern. */
+  private final Pattern pattern;
+
+  /** Table of valid province codes. */
+  private final ProvinceCodeTable provinceCodeTable;
+
+  /** Indexes of the digits taking part in the check digit calculation. */
+  private final int[] indexes;
+
+  /** Coefficients applied to each of the extracted digits. */
+  private final int[] coefficients;
+
+  /** Flag indicating whether the multiplied values need to be adjusted. */
+  private final boolean hasToAdjust;
+
+  /** The maximum value threshold for adjustment. */
+  private final int adjusterMaxValue;
+
+  /** The value to subtract from multiplied values that meet the adjustment condition. */
+  private final int adjusterSubtrahend;
+
+  /** The maximum value threshold for the last check digit modification. */
+  private final int lastCheckDigitMaxValue;
+
+  /** The divisor used for the last check digit modification. */
+  private final int lastCheckDigitDivisor;
+
+  /** The index from which to extract the last digit. */
+  private final int lastDigitIndex;
+
+  /** The value to compare against the last check digit. */
+  private final int firstComparisonValue;
+
+  /** The minuend used for the subtraction in the second comparison. */
+  private final int secondComparisonMinuend;
+
+  /**
+   * Constructor for CompiledIdentityHandler.
+   *
+   * @param regex The regular expression to be used for validation.
+   * @param provinceInitialIndex The initial index for extracting the province code.
+   * @param provinceFinalIndex The final index for extracting the province code.
+   * @param provinceCodeSet The set of valid province codes.
+   * @param indexList The list of indexes of the digits used for the check digit calculation.
+   * @param coefficientList The list of coefficients to be used for multiplication.
+   * @param hasToAdjust Flag indicating whether the multiplied values need to be adjusted.
+   * @param adjusterMaxValue The maximum value threshold for adjustment.
+   * @param adjusterSubtrahend The value to subtract from values that meet the adjustment condition.
+   * @param lastCheckDigitMaxValue The maximum value threshold for the last check digit.
+   * @param lastCheckDigitDivisor The divisor used for the last check digit modification.
+   * @param lastDigitIndex The index from which to extract the last digit.
+   * @param firstComparisonValue The value to compare against the last check digit.
+   * @param secondComparisonMinuend The minuend used for the subtraction in the second comparison.
+   */
+  public CompiledIdentityHandler(
+      String regex,
+      int provinceInitialIndex,
+      int provinceFinalIndex,
+      Set<String> provinceCodeSet,
+      List<Integer> indexList,
+      List<Integer> coefficientList,
+      boolean hasToAdjust,
+      int adjusterMaxValue,
+      int adjusterSubtrahend,
+      int lastCheckDigitMaxValue,
+      int lastCheckDigitDivisor,
+      int lastDigitIndex,
+      int firstComparisonValue,
+      int secondComparisonMinuend) {
+    this.length = IdentityConfigUtil.getDigitPatternLength(regex);
+    this.pattern = length < 0 ? Pattern.compile(regex) : null;
+    this.provinceCodeTable =
+        new ProvinceCodeTable(provinceInitialIndex, provinceFinalIndex, provinceCodeSet);
+    this.indexes = indexList.stream().mapToInt(Integer::intValue).toArray();
+    this.coefficients = coefficientList.stream().mapToInt(Integer::intValue).toArray();
+    this.hasToAdjust = hasToAdjust;
+    this.adjusterMaxValue = adjusterMaxValue;
+    this.adjusterSubtrahend = adjusterSubtrahend;
+    this.lastCheckDigitMaxValue = lastCheckDigitMaxValue;
+    this.lastCheckDigitDivisor = lastCheckDigitDivisor;
+    this.lastDigitIndex = lastDigitIndex;
+    this.firstComparisonValue = firstComparisonValue;
+    this.secondComparisonMinuend = secondComparisonMinuend;
+  }
+
+  /**
+   * Processes the identity document by validating its format, province code and check digit.
+   *
+   * <p>If any of the checks fails, the identity document is rejected with the same rejection as the
+   * equivalent handler of the chain.
+   *
+   * @param context The identity document to be processed.
+   */
+  @Override
+  public void process(IdentityDocument context) {
+    IdentityRejectedException rejection = validate(context.getValue());
+    if (rejection != null) {
+      reject(context, rejection);
+      return;
+    }
+    checkNextHandler(context);
+  }
+
+  /**
+   * Validates the format, province code and check digit of a value.
+   *
+   * @param value The value to be validated.
+   * @return The rejection of the first failing check, or null if the value is valid.
+   */
+  private IdentityRejectedException validate(CharSequence value) {
+    if (value == null) {
+      return RegexHandler.INVALID_REGEX;
+    }
+    if (length >= 0 && value.length() != length) {
+      return LengthHandler.INVALID_LENGTH;
+    }
+    if (!matchesFormat(value)) {
+      return RegexHandler.INVALID_REGEX;
+    }
+    if (!provinceCodeTable.contains(value)) {
+      return ProvinceCodeHandler.INVALID_PROVINCE_CODE;
+    }
+    int lastCheckDigit = getLastCheckDigit(value);
+    if (lastCheckDigit == NO_CHECK_DIGIT) {
+      return CoefficientMultiplicationHandler.FAILED_MULTIPLICATION;
+    }
+    if (lastDigitIndex < 0 || lastDigitIndex >= value.length()) {
+      return LastDigitHandler.INVALID_LAST_DIGIT;
+    }
+    int lastDigit = getDigit(value.charAt(lastDigitIndex));
+    if (lastCheckDigit == firstComparisonValue) {
+      return lastDigit != firstComparisonValue
+          ? FirstComparisonHandler.INVALID_FIRST_COMPARISON
+          : null;
+    }
+    return secondComparisonMinuend - lastCheckDigit != lastDigit
+        ? SecondComparisonHandler.INVALID_SECOND_COMPARISON
+        : null;
+  }
+
+  /**
+   * Checks the value against the configured format.
+   *
+   * <p>Plain digit patterns are checked with a digit loop, eight bytes at a time for values backed
+   * by a byte array, the length having been checked already; any other regular expression is
+   * matched against its precompiled pattern.
+   *
+   * @param value The value to be checked.
+   * @return `true` if the value matches the format, otherwise `false`.
+   */
+  private boolean matchesFormat(CharSequence value) {
+    return length < 0 ? pattern.matcher(value).matches() : AsciiDigits.isDigits(value);
+  }
+
+  /**
+   * Calculates the last check digit from the digits at the configured indexes.
+   *
+   * @param value The value from which the digits are taken.
+   * @return The last check digit, or {@link #NO_CHECK_DIGIT} if the number of digits does not match
+   *     the number of coefficients.
+   */
+  private int getLastCheckDigit(CharSequence value) {
+    int sum = 0;
+    int count = 0;
+    for (int index : indexes) {
+      if (index < 0 || index >= value.length()) {
+        continue;
+      }
+      if (count == coefficients.length) {
+        return NO_CHECK_DIGIT;
+      }
+      int product = coefficients[count++] * getDigit(value.charAt(index));
+      sum += hasToAdjust && product >= adjusterMaxValue ? product - adjusterSubtrahend : product;
+    }
+    if (count != coefficients.length) {
+      return NO_CHECK_DIGIT;
+    }
+    return sum >= lastCheckDigitMaxValue ? sum % lastCheckDigitDivisor : sum;
+  }
+
+  /**
+   * Gets the numeric value of a character.
+   *
+   * @param c The character to be converted.
+   * @return The numeric value of the character.
+   */
+  private static int getDigit(char c) {
+    return c >= '0' && c <= '9' ? c - '0' : Character.getNumericValue(c);
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.handler.impl;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
+
+/**
+ * Handler for validating the establishment number of an identity document.
+ *
+ * <p>This class extends {@link AbstractIdentityHandler} and checks that the characters between the
+ * initial and final indexes of the value are digits forming an establishment number, which starts
+ * at 1, such as the {@code 001} suffix of a RUC.
+ */
+public class EstablishmentHandler extends AbstractIdentityHandler {
+
+  /** Exception thrown when the value does not hold a valid establishment number. */
+  static final IdentityRejectedException INVALID_ESTABLISHMENT =
+      new IdentityRejectedException(
+          EstablishmentHandler.class,
+          "Invalid establishment.",
+          RejectionReason.INVALID_ESTABLISHMENT);
+
+  /** The initial index of the establishment number. */
+  private final int initialIndex;
+
+  /** The final index of the establishment number. */
+  private final int finalIndex;
+
+  /**
+   * Constructor for EstablishmentHandler.
+   *
+   * @param initialIndex The initial index of the establishment number.
+   * @param finalIndex The final index of the establishment number.
+   */
+  public EstablishmentHandler(Integer initialIndex, Integer finalIndex) {
+    this.initialIndex = initialIndex;
+    this.finalIndex = finalIndex;
+  }
+
+  /**
+   * Processes the identity document by validating its establishment number.
+   *
+   * <p>If the establishment number is missing, holds a non-digit character or is zero, the identity
+   * document is rejected.
+   *
+   * @param context The identity document to be processed.
+   */
+  @Override
+  public void process(IdentityDocument context) {
+    if (!isValidEstablishment(context.getValue())) {
+      reject(context, INVALID_ESTABLISHMENT);
+      return;
+    }
+    checkNextHandler(context);
+  }
+
+  /**
+   * Gets the relative cost of the handler, which reads only the establishment number.
+   *
+   * @return The relative cost of the handler.
+   */
+  @Override
+  public int getCost() {
+    return Math.max(finalIndex - initialIndex, 1);
+  }
+
+  /**
+   * Checks the establishment number of a value.
+   *
+   * @param value The value holding the establishment number.
+   * @return `true` if the establishment number is valid, otherwise `false`.
+   */
+  private boolean isValidEstablishment(CharSequence value) {
+    if (initialIndex < 0 || initialIndex >= finalIndex || value.length() < finalIndex) {
+      return false;
+    }
+    boolean isZero = true;
+    for (int i = initialIndex; i < finalIndex; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      isZero &= c == '0';
+    }
+    return !isZero;
+  }
+}
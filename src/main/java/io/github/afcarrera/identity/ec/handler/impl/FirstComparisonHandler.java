@@ -14,9 +14,9 @@
 package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
-import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
-import java.util.Objects;
 
 /**
  * Handler for performing a first comparison check on the identity document.
@@ -27,8 +27,15 @@ import java.util.Objects;
  */
 public class FirstComparisonHandler extends AbstractIdentityHandler {
 
+  /** Exception thrown when the first comparison fails. */
+  static final IdentityRejectedException INVALID_FIRST_COMPARISON =
+      new IdentityRejectedException(
+          FirstComparisonHandler.class,
+          "Invalid last check digit on first comparison.",
+          RejectionReason.FIRST_COMPARISON_MISMATCH);
+
   /** The value to compare against the last check digit. */
-  private final Integer firstComparisonValue;
+  private final int firstComparisonValue;
 
   /**
    * Constructor for FirstComparisonHandler.
@@ -45,15 +52,16 @@ public class FirstComparisonHandler extends AbstractIdentityHandler {
    * <p>If the last check digit matches the specified value, it further checks if the last digit
    * also matches.
    *
+   * <p>If the last check digit matches the specified value but the last digit does not, the
+   * identity document is rejected.
+   *
    * @param context The identity document to be processed.
-   * @throws IdentityDocumentException If the last check digit matches the specified value but the
-   *     last digit does not.
    */
   @Override
   public void process(IdentityDocument context) {
-    if (Objects.equals(context.getLastCheckDigit(), firstComparisonValue)) {
-      if (!context.getLastDigit().equals(firstComparisonValue)) {
-        throw new IdentityDocumentException("Invalid last check digit on first comparison.");
+    if (context.getLastCheckDigit() == firstComparisonValue) {
+      if (context.getLastDigit() != firstComparisonValue) {
+        reject(context, INVALID_FIRST_COMPARISON);
       }
     } else {
       checkNextHandler(context);
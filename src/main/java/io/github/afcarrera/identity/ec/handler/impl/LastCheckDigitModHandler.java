@@ -25,10 +25,10 @@ import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
 public class LastCheckDigitModHandler extends AbstractIdentityHandler {
 
   /** The maximum value threshold for modification. */
-  private final Integer maxValue;
+  private final int maxValue;
 
   /** The divisor used for the modification. */
-  private final Integer divisor;
+  private final int divisor;
 
   /**
    * Constructor for LastCheckDigitModHandler.
@@ -51,7 +51,7 @@ public class LastCheckDigitModHandler extends AbstractIdentityHandler {
    */
   @Override
   public void process(IdentityDocument context) {
-    Integer lastCheckDigit = context.getLastCheckDigit();
+    int lastCheckDigit = context.getLastCheckDigit();
     if (lastCheckDigit >= maxValue) {
       context.setLastCheckDigit(lastCheckDigit % divisor);
     }
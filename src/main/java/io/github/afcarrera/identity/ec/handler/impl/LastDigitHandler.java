@@ -14,6 +14,8 @@
 package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
 
 /**
@@ -24,8 +26,13 @@ import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
  */
 public class LastDigitHandler extends AbstractIdentityHandler {
 
+  /** Exception thrown when the value has no digit at the specified index. */
+  static final IdentityRejectedException INVALID_LAST_DIGIT =
+      new IdentityRejectedException(
+          LastDigitHandler.class, "Invalid last digit.", RejectionReason.CHECK_DIGIT_UNAVAILABLE);
+
   /** The index from which to extract the last digit. */
-  private final Integer index;
+  private final int index;
 
   /**
    * Constructor for LastDigitHandler.
@@ -41,13 +48,19 @@ public class LastDigitHandler extends AbstractIdentityHandler {
    *
    * <p>The extracted digit is then set as the last digit in the context.
    *
+   * <p>If the value has no character at the specified index, the identity document is rejected.
+   *
    * @param context The identity document to be processed.
    */
   @Override
   public void process(IdentityDocument context) {
-    String value = context.getValue();
+    CharSequence value = context.getValue();
+    if (index >= value.length()) {
+      reject(context, INVALID_LAST_DIGIT);
+      return;
+    }
     char lastChar = value.charAt(index);
-    Integer lastDigit = Character.getNumericValue(lastChar);
+    int lastDigit = Character.getNumericValue(lastChar);
     context.setLastDigit(lastDigit);
     checkNextHandler(context);
   }
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.handler.impl;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
+
+/**
+ * Handler for validating the length of an identity document.
+ *
+ * <p>This class extends {@link AbstractIdentityHandler} and checks that the value of the identity
+ * document has the expected number of characters. It is the cheapest check of a chain, so it is
+ * meant to run before any other one.
+ */
+public class LengthHandler extends AbstractIdentityHandler {
+
+  /** Exception thrown when the value does not have the expected length. */
+  static final IdentityRejectedException INVALID_LENGTH =
+      new IdentityRejectedException(
+          LengthHandler.class, "Invalid length.", RejectionReason.INVALID_LENGTH);
+
+  /** The expected length of the value. */
+  private final int length;
+
+  /**
+   * Constructor for LengthHandler.
+   *
+   * @param length The expected length of the value.
+   */
+  public LengthHandler(Integer length) {
+    this.length = length;
+  }
+
+  /**
+   * Processes the identity document by validating the length of its value.
+   *
+   * <p>If the value does not have the expected length, the identity document is rejected.
+   *
+   * @param context The identity document to be processed.
+   */
+  @Override
+  public void process(IdentityDocument context) {
+    if (context.getValue().length() != length) {
+      reject(context, INVALID_LENGTH);
+      return;
+    }
+    checkNextHandler(context);
+  }
+
+  /**
+   * Gets the relative cost of the handler, which reads no character of the value.
+   *
+   * @return The relative cost of the handler.
+   */
+  @Override
+  public int getCost() {
+    return 1;
+  }
+}
@@ -15,7 +15,6 @@ package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
-import java.util.List;
 
 /**
  * Handler for summing elements in the multiplication list of an identity document.
@@ -34,7 +33,7 @@ public class ListSumHandler extends AbstractIdentityHandler {
    */
   @Override
   public void process(IdentityDocument context) {
-    Integer sum = getSum(context.getMultiplicationList());
+    int sum = getSum(context.getMultiplicationList(), context.getMultiplicationListSize());
     context.setLastCheckDigit(sum);
     checkNextHandler(context);
   }
@@ -42,10 +41,15 @@ public class ListSumHandler extends AbstractIdentityHandler {
   /**
    * Sums the elements of the multiplication list.
    *
-   * @param multiplicationList The list of integers to be summed.
+   * @param multiplicationList The buffer of integers to be summed.
+   * @param size The number of integers in the buffer.
    * @return The sum of the elements in the list.
    */
-  private Integer getSum(List<Integer> multiplicationList) {
-    return multiplicationList.stream().reduce(0, Integer::sum);
+  private static int getSum(int[] multiplicationList, int size) {
+    int sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += multiplicationList[i];
+    }
+    return sum;
   }
 }
@@ -15,8 +15,6 @@ package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Handler for adjusting values in the multiplication list of an identity document.
@@ -30,10 +28,10 @@ public class ListValueAdjusterHandler extends AbstractIdentityHandler {
   private final boolean hasToAdjust;
 
   /** The maximum value threshold for adjustment. */
-  private final Integer maxValue;
+  private final int maxValue;
 
   /** The value to subtract from elements that meet the adjustment condition. */
-  private final Integer subtrahend;
+  private final int subtrahend;
 
   /**
    * Constructor for ListValueAdjusterHandler.
@@ -53,18 +51,19 @@ public class ListValueAdjusterHandler extends AbstractIdentityHandler {
    *
    * <p>If the value is greater than or equal to maxValue, subtracts subtrahend from it.
    *
-   * <p>The modified list is then set in the context.
+   * <p>The values are modified in place in the context.
    *
    * @param context The identity document to be processed.
    */
   @Override
   public void process(IdentityDocument context) {
     if (hasToAdjust) {
-      List<Integer> modList =
-          context.getMultiplicationList().stream()
-              .map(value -> value >= maxValue ? value - subtrahend : value)
-              .collect(Collectors.toList());
-      context.setMultiplicationList(modList);
+      int[] multiplicationList = context.getMultiplicationList();
+      for (int i = 0; i < context.getMultiplicationListSize(); i++) {
+        if (multiplicationList[i] >= maxValue) {
+          multiplicationList[i] -= subtrahend;
+        }
+      }
     }
     checkNextHandler(context);
   }
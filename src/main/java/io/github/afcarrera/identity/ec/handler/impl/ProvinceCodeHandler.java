@@ -14,7 +14,8 @@
 package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
-import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
 import java.util.Set;
 
@@ -23,17 +24,19 @@ import java.util.Set;
  *
  * <p>This class extends {@link AbstractIdentityHandler} and checks if the province code within the
  * identity document is valid based on a set of allowed province codes.
+ *
+ * <p>The codes are compiled into a {@link ProvinceCodeTable}, so the check reads the characters of
+ * the code in place instead of hashing a substring.
  */
 public class ProvinceCodeHandler extends AbstractIdentityHandler {
 
-  /** Initial index for extracting the province code. */
-  private final Integer initialIndex;
-
-  /** Final index for extracting the province code. */
-  private final Integer finalIndex;
+  /** Exception thrown when the province code is not valid. */
+  static final IdentityRejectedException INVALID_PROVINCE_CODE =
+      new IdentityRejectedException(
+          ProvinceCodeHandler.class, "Invalid province code.", RejectionReason.INVALID_PROVINCE);
 
-  /** Set of valid province codes. */
-  private final Set<String> provinceCodeSet;
+  /** Table of valid province codes. */
+  private final ProvinceCodeTable provinceCodeTable;
 
   /**
    * Constructor for ProvinceCodeHandler.
@@ -44,23 +47,33 @@ public class ProvinceCodeHandler extends AbstractIdentityHandler {
    */
   public ProvinceCodeHandler(
       Integer initialIndex, Integer finalIndex, Set<String> provinceCodeSet) {
-    this.initialIndex = initialIndex;
-    this.finalIndex = finalIndex;
-    this.provinceCodeSet = provinceCodeSet;
+    this.provinceCodeTable = new ProvinceCodeTable(initialIndex, finalIndex, provinceCodeSet);
   }
 
   /**
    * Processes the identity document by validating its province code.
    *
+   * <p>If the province code is not valid, the identity document is rejected.
+   *
    * @param context The identity document to be processed.
-   * @throws IdentityDocumentException If the province code is not valid.
    */
   @Override
   public void process(IdentityDocument context) {
-    String code = context.getValue().substring(initialIndex, finalIndex);
-    if (!provinceCodeSet.contains(code)) {
-      throw new IdentityDocumentException("Invalid province code.");
+    if (!provinceCodeTable.contains(context.getValue())) {
+      reject(context, INVALID_PROVINCE_CODE);
+      return;
     }
     checkNextHandler(context);
   }
+
+  /**
+   * Gets the relative cost of the handler, which reads only the characters of the province code,
+   * once for a table lookup or once per comparison of the binary search over sorted codes.
+   *
+   * @return The relative cost of the handler.
+   */
+  @Override
+  public int getCost() {
+    return provinceCodeTable.getCost();
+  }
 }
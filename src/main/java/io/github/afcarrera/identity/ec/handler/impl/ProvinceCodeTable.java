@@ -0,0 +1,163 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.handler.impl;
+
+import java.util.Set;
+
+/**
+ * Class representing the set of valid province codes found at a fixed range of a value.
+ *
+ * <p>Numeric codes of up to four digits are compiled into a table indexed by the value of the code,
+ * so a lookup reads the digits of the range and loads a single entry. Any other codes are kept
+ * sorted and looked up with a binary search over the characters of the range. Neither lookup
+ * creates a substring.
+ */
+final class ProvinceCodeTable {
+
+  /** Maximum number of digits of a code kept in the table. */
+  private static final int MAX_TABLE_WIDTH = 4;
+
+  /** Initial index of the province code within a value. */
+  private final int initialIndex;
+
+  /** Final index of the province code within a value. */
+  private final int finalIndex;
+
+  /** Table of valid numeric codes indexed by their value, or null when the codes are sorted. */
+  private final boolean[] table;
+
+  /** Sorted valid codes, used when the codes cannot be indexed in a table. */
+  private final String[] sortedCodes;
+
+  /**
+   * Constructor for ProvinceCodeTable.
+   *
+   * @param initialIndex The initial index of the province code within a value.
+   * @param finalIndex The final index of the province code within a value.
+   * @param provinceCodeSet The set of valid province codes.
+   */
+  ProvinceCodeTable(int initialIndex, int finalIndex, Set<String> provinceCodeSet) {
+    this.initialIndex = initialIndex;
+    this.finalIndex = finalIndex;
+    this.table = getTable(finalIndex - initialIndex, provinceCodeSet);
+    this.sortedCodes =
+        table == null ? provinceCodeSet.stream().sorted().toArray(String[]::new) : null;
+  }
+
+  /**
+   * Gets the relative cost of a lookup: the number of characters of the code for a table lookup,
+   * multiplied by the number of comparisons of the binary search for sorted codes.
+   *
+   * @return The relative cost of a lookup.
+   */
+  int getCost() {
+    int width = Math.max(finalIndex - initialIndex, 1);
+    if (table != null) {
+      return width;
+    }
+    return width * Math.max(32 - Integer.numberOfLeadingZeros(sortedCodes.length), 1);
+  }
+
+  /**
+   * Checks whether the province code within a value is valid.
+   *
+   * @param value The value holding the province code.
+   * @return `true` if the province code is valid, otherwise `false`.
+   */
+  boolean contains(CharSequence value) {
+    if (initialIndex < 0 || value.length() < finalIndex) {
+      return false;
+    }
+    if (table == null) {
+      return containsSorted(value);
+    }
+    int code = 0;
+    for (int i = initialIndex; i < finalIndex; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      code = code * 10 + (c - '0');
+    }
+    return table[code];
+  }
+
+  /**
+   * Looks up the province code within a value in the sorted codes.
+   *
+   * @param value The value holding the province code.
+   * @return `true` if the province code is valid, otherwise `false`.
+   */
+  private boolean containsSorted(CharSequence value) {
+    int low = 0;
+    int high = sortedCodes.length - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compare(sortedCodes[middle], value);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Compares a code with the province code within a value, in the order of {@link
+   * String#compareTo(String)}.
+   *
+   * @param code The code to be compared.
+   * @param value The value holding the province code.
+   * @return A negative number, zero or a positive number as the code is less than, equal to or
+   *     greater than the province code.
+   */
+  private int compare(String code, CharSequence value) {
+    int width = finalIndex - initialIndex;
+    int length = Math.min(code.length(), width);
+    for (int i = 0; i < length; i++) {
+      int difference = code.charAt(i) - value.charAt(initialIndex + i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return code.length() - width;
+  }
+
+  /**
+   * Builds a table indexed by the numeric value of each province code.
+   *
+   * @param width The number of characters of a province code.
+   * @param provinceCodeSet The set of valid province codes.
+   * @return The table of valid codes, or null when the codes cannot be indexed.
+   */
+  private static boolean[] getTable(int width, Set<String> provinceCodeSet) {
+    if (width <= 0 || width > MAX_TABLE_WIDTH) {
+      return null;
+    }
+    boolean[] table = new boolean[(int) Math.pow(10, width)];
+    for (String code : provinceCodeSet) {
+      if (code.length() != width) {
+        continue;
+      }
+      if (!code.chars().allMatch(c -> c >= '0' && c <= '9')) {
+        return null;
+      }
+      table[Integer.parseInt(code)] = true;
+    }
+    return table;
+  }
+}
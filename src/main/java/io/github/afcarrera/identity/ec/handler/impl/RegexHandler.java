@@ -13,22 +13,33 @@
  */
 package io.github.afcarrera.identity.ec.handler.impl;
 
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
-import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Handler for validating identity document values against a regular expression.
  *
  * <p>This class extends {@link AbstractIdentityHandler} and checks if the value of the identity
- * document matches the provided regular expression.
+ * document matches the provided regular expression. The expression is compiled once, and plain
+ * digit patterns such as {@code ^\d{10}$} are checked with a length and digit loop instead, which
+ * reads eight bytes at a time when the value is backed by a byte array.
  */
 public class RegexHandler extends AbstractIdentityHandler {
 
-  /** The regular expression used for validation. */
-  private final String regex;
+  /** Exception thrown when the value does not match the regular expression. */
+  static final IdentityRejectedException INVALID_REGEX =
+      new IdentityRejectedException(
+          RegexHandler.class, "Invalid regex.", RejectionReason.INVALID_FORMAT);
+
+  /** The compiled regular expression, or null when the digit fast path is used. */
+  private final Pattern pattern;
+
+  /** Expected number of digits, or -1 when the regular expression is not a plain digit pattern. */
+  private final int length;
 
   /**
    * Constructor for RegexHandler.
@@ -36,22 +47,46 @@ public class RegexHandler extends AbstractIdentityHandler {
    * @param regex The regular expression to be used for validation.
    */
   public RegexHandler(String regex) {
-    this.regex = regex;
+    this.length = IdentityConfigUtil.getDigitPatternLength(regex);
+    this.pattern = length < 0 ? Pattern.compile(regex) : null;
   }
 
   /**
    * Processes the identity document by validating its value against the regular expression.
    *
+   * <p>If the value does not match the regular expression, the identity document is rejected.
+   *
    * @param context The identity document to be processed.
-   * @throws IdentityDocumentException If the value does not match the regular expression.
    */
   @Override
   public void process(IdentityDocument context) {
-    Pattern pattern = Pattern.compile(regex);
-    Matcher matcher = pattern.matcher(context.getValue());
-    if (!matcher.matches()) {
-      throw new IdentityDocumentException("Invalid regex.");
+    if (!matches(context.getValue())) {
+      reject(context, INVALID_REGEX);
+      return;
     }
     checkNextHandler(context);
   }
+
+  /**
+   * Gets the relative cost of the handler, which is the number of digits for a plain digit pattern.
+   *
+   * @return The relative cost of the handler.
+   */
+  @Override
+  public int getCost() {
+    return pattern == null ? length : DEFAULT_COST;
+  }
+
+  /**
+   * Checks whether the value matches the regular expression.
+   *
+   * @param value The value to be checked.
+   * @return `true` if the value matches, otherwise `false`.
+   */
+  private boolean matches(CharSequence value) {
+    if (pattern != null) {
+      return pattern.matcher(value).matches();
+    }
+    return value.length() == length && AsciiDigits.isDigits(value);
+  }
 }
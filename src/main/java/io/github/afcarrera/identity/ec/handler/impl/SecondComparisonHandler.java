@@ -14,7 +14,8 @@
 package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
-import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
 
 /**
@@ -26,8 +27,15 @@ import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
  */
 public class SecondComparisonHandler extends AbstractIdentityHandler {
 
+  /** Exception thrown when the second comparison fails. */
+  static final IdentityRejectedException INVALID_SECOND_COMPARISON =
+      new IdentityRejectedException(
+          SecondComparisonHandler.class,
+          "Invalid last check digit on second comparison.",
+          RejectionReason.SECOND_COMPARISON_MISMATCH);
+
   /** The minuend used for the subtraction in the comparison. */
-  private final Integer minuend;
+  private final int minuend;
 
   /**
    * Constructor for SecondComparisonHandler.
@@ -44,15 +52,17 @@ public class SecondComparisonHandler extends AbstractIdentityHandler {
    * <p>Compares the result of subtracting the last check digit from the minuend with the last
    * digit.
    *
+   * <p>If the result of the subtraction does not match the last digit, the identity document is
+   * rejected.
+   *
    * @param context The identity document to be processed.
-   * @throws IdentityDocumentException If the result of the subtraction does not match the last
-   *     digit.
    */
   @Override
   public void process(IdentityDocument context) {
-    Integer subtract = minuend - context.getLastCheckDigit();
-    if (!subtract.equals(context.getLastDigit())) {
-      throw new IdentityDocumentException("Invalid last check digit on second comparison.");
+    int subtract = minuend - context.getLastCheckDigit();
+    if (subtract != context.getLastDigit()) {
+      reject(context, INVALID_SECOND_COMPARISON);
+      return;
     }
     checkNextHandler(context);
   }
@@ -15,8 +15,6 @@ package io.github.afcarrera.identity.ec.handler.impl;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Handler for transforming the string value of an identity document to a list of integers.
@@ -35,21 +33,25 @@ public class StringToIntegerHandler extends AbstractIdentityHandler {
    */
   @Override
   public void process(IdentityDocument context) {
-    List<Integer> valueList = transformStringToInteger(context.getValue());
-    context.setValueList(valueList);
+    transformStringToInteger(context.getValue(), context);
     checkNextHandler(context);
   }
 
   /**
    * Transforms a string value to a list of integers.
    *
-   * <p>Each character in the string is converted to its numeric value.
+   * <p>Each character in the string is converted to its numeric value and written to the value list
+   * buffer of the context.
    *
    * @param value The string value to be transformed.
-   * @return The list of integers corresponding to the numeric values of the characters in the
-   *     string.
+   * @param context The identity document holding the value list buffer.
    */
-  private List<Integer> transformStringToInteger(String value) {
-    return value.chars().map(Character::getNumericValue).boxed().collect(Collectors.toList());
+  private static void transformStringToInteger(CharSequence value, IdentityDocument context) {
+    int length = value.length();
+    int[] valueList = context.prepareValueList(length);
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      valueList[i] = c >= '0' && c <= '9' ? c - '0' : Character.getNumericValue(c);
+    }
   }
 }
@@ -16,7 +16,6 @@ package io.github.afcarrera.identity.ec.handler.impl;
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
 import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Handler for extracting a sublist from the identity document's value list based on specified
@@ -27,8 +26,8 @@ import java.util.stream.Collectors;
  */
 public class SubListExtractorHandler extends AbstractIdentityHandler {
 
-  /** List of indexes to extract elements from the original list. */
-  private final List<Integer> indexList;
+  /** Indexes to extract elements from the original list. */
+  private final int[] indexes;
 
   /**
    * Constructor for SublistExtractorHandler.
@@ -36,7 +35,7 @@ public class SubListExtractorHandler extends AbstractIdentityHandler {
    * @param indexList The list of indexes to extract elements from the original list.
    */
   public SubListExtractorHandler(List<Integer> indexList) {
-    this.indexList = indexList;
+    this.indexes = indexList.stream().mapToInt(Integer::intValue).toArray();
   }
 
   /**
@@ -48,22 +47,16 @@ public class SubListExtractorHandler extends AbstractIdentityHandler {
    */
   @Override
   public void process(IdentityDocument context) {
-    List<Integer> subValueList = getElementsByIndexes(context.getValueList(), indexList);
-    context.setValueSublist(subValueList);
+    int[] originalList = context.getValueList();
+    int originalSize = context.getValueListSize();
+    int[] subValueList = context.prepareValueSublist(indexes.length);
+    int size = 0;
+    for (int index : indexes) {
+      if (index >= 0 && index < originalSize) {
+        subValueList[size++] = originalList[index];
+      }
+    }
+    context.prepareValueSublist(size);
     checkNextHandler(context);
   }
-
-  /**
-   * Extracts elements from the original list based on the provided indexes.
-   *
-   * @param originalList The original list from which elements are to be extracted.
-   * @param indexes The list of indexes to use for extracting elements.
-   * @return The list of extracted elements.
-   */
-  private List<Integer> getElementsByIndexes(List<Integer> originalList, List<Integer> indexes) {
-    return indexes.stream()
-        .filter(index -> index >= 0 && index < originalList.size())
-        .map(originalList::get)
-        .collect(Collectors.toList());
-  }
 }
@@ -51,7 +51,7 @@ public class SubStringExtractorHandler extends AbstractIdentityHandler {
    */
   @Override
   public void process(IdentityDocument context) {
-    context.setValue(context.getValue().substring(initialIndex, finalIndex));
+    context.setValue(context.getValue().subSequence(initialIndex, finalIndex));
     checkNextHandler(context);
   }
 }
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.handler.impl;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
+import java.util.Set;
+
+/**
+ * Handler for validating the type digit of an identity document.
+ *
+ * <p>This class extends {@link AbstractIdentityHandler} and checks that the digit at the configured
+ * index is one of the valid type digits, such as the third digit of a RUC, which tells natural
+ * persons, public entities and private companies apart.
+ */
+public class TypeDigitHandler extends AbstractIdentityHandler {
+
+  /** Exception thrown when the value does not hold a valid type digit. */
+  static final IdentityRejectedException INVALID_TYPE_DIGIT =
+      new IdentityRejectedException(
+          TypeDigitHandler.class, "Invalid type digit.", RejectionReason.INVALID_TYPE_DIGIT);
+
+  /** The index of the type digit. */
+  private final int index;
+
+  /** Table of valid type digits indexed by their value. */
+  private final boolean[] validDigits = new boolean[10];
+
+  /**
+   * Constructor for TypeDigitHandler.
+   *
+   * @param index The index of the type digit.
+   * @param typeSet The set of valid type digits.
+   * @throws IdentityDocumentException If a valid type is not a single digit.
+   */
+  public TypeDigitHandler(Integer index, Set<String> typeSet) {
+    this.index = index;
+    for (String type : typeSet) {
+      if (type.length() != 1 || type.charAt(0) < '0' || type.charAt(0) > '9') {
+        throw new IdentityDocumentException("Invalid type digit: " + type);
+      }
+      validDigits[type.charAt(0) - '0'] = true;
+    }
+  }
+
+  /**
+   * Processes the identity document by validating its type digit.
+   *
+   * <p>If the value has no digit at the index or it is not a valid type digit, the identity
+   * document is rejected.
+   *
+   * @param context The identity document to be processed.
+   */
+  @Override
+  public void process(IdentityDocument context) {
+    CharSequence value = context.getValue();
+    if (index < 0 || index >= value.length()) {
+      reject(context, INVALID_TYPE_DIGIT);
+      return;
+    }
+    char c = value.charAt(index);
+    if (c < '0' || c > '9' || !validDigits[c - '0']) {
+      reject(context, INVALID_TYPE_DIGIT);
+      return;
+    }
+    checkNextHandler(context);
+  }
+
+  /**
+   * Gets the relative cost of the handler, which reads a single character of the value.
+   *
+   * @return The relative cost of the handler.
+   */
+  @Override
+  public int getCost() {
+    return 1;
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.listener;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Listener that counts rejections per rejecting handler.
+ *
+ * <p>This class implements {@link RejectionListener} and keeps one counter per handler class.
+ * Rejections that do not report a handler are counted under their exception class.
+ */
+public class RejectionCounter implements RejectionListener {
+
+  /** Map holding a counter for each rejecting handler class. */
+  private final Map<Class<?>, LongAdder> counters = new ConcurrentHashMap<>();
+
+  /** {@inheritDoc} */
+  @Override
+  public void onRejected(CharSequence value, IdentityDocumentException rejection) {
+    counters
+        .computeIfAbsent(
+            IdentityRejectedException.getSourceClass(rejection), source -> new LongAdder())
+        .increment();
+  }
+
+  /**
+   * Gets the number of rejections reported by a handler.
+   *
+   * @param handlerClass The class of the handler.
+   * @return The number of rejections.
+   */
+  public long getCount(Class<?> handlerClass) {
+    LongAdder counter = counters.get(handlerClass);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  /**
+   * Gets the number of rejections of every handler that rejected at least one value.
+   *
+   * @return Map of rejection counts by handler class.
+   */
+  public Map<Class<?>, Long> getCounts() {
+    return counters.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  /** Resets every counter to zero. */
+  public void reset() {
+    counters.values().forEach(LongAdder::reset);
+  }
+}
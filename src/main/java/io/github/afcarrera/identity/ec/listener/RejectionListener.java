@@ -0,0 +1,51 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.listener;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+
+/**
+ * Interface for listening to identity document rejections.
+ *
+ * <p>The listener is called on the validating thread for every rejected value, so implementations
+ * must be thread-safe and cheap.
+ */
+@FunctionalInterface
+public interface RejectionListener {
+
+  /** Listener that ignores every rejection. */
+  RejectionListener NONE = (value, rejection) -> {};
+
+  /**
+   * Called when a value is rejected by the chain of handlers.
+   *
+   * @param value The rejected value, which may be a view over a reused buffer and must be copied
+   *     with {@code toString()} if it is kept after the call.
+   * @param rejection The exception with which the value was rejected.
+   */
+  void onRejected(CharSequence value, IdentityDocumentException rejection);
+
+  /**
+   * Returns a listener that calls this listener and then the given one.
+   *
+   * @param next The listener to be called after this one.
+   * @return The composed listener.
+   */
+  default RejectionListener andThen(RejectionListener next) {
+    return (value, rejection) -> {
+      onRejected(value, rejection);
+      next.onRejected(value, rejection);
+    };
+  }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.listener;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listener that logs one out of every given number of rejections.
+ *
+ * <p>This class implements {@link RejectionListener} and logs the rejection message at warn level,
+ * without the rejected value.
+ */
+public class SampledLoggingRejectionListener implements RejectionListener {
+
+  /** Logger for logging sampled rejections. */
+  private static final Logger log = LoggerFactory.getLogger(SampledLoggingRejectionListener.class);
+
+  /** Number of rejections between two logged ones. */
+  private final long sampleRate;
+
+  /** Number of rejections seen so far. */
+  private final AtomicLong rejections = new AtomicLong();
+
+  /**
+   * Constructor for SampledLoggingRejectionListener.
+   *
+   * @param sampleRate Number of rejections between two logged ones; 1 logs every rejection.
+   */
+  public SampledLoggingRejectionListener(long sampleRate) {
+    if (sampleRate < 1) {
+      throw new IdentityDocumentException("Sample rate must be positive.");
+    }
+    this.sampleRate = sampleRate;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onRejected(CharSequence value, IdentityDocumentException rejection) {
+    long count = rejections.getAndIncrement();
+    if (count % sampleRate == 0 && log.isWarnEnabled()) {
+      log.warn("{} ({} rejections so far)", rejection.getMessage(), count + 1);
+    }
+  }
+}
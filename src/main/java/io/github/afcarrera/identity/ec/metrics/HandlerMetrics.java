@@ -0,0 +1,58 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.metrics;
+
+/**
+ * Interface for the metrics of a handler of an identity handler chain.
+ *
+ * <p>Metrics are recorded only when the instrumentation of the chain is enabled, and they are
+ * counted from the moment the chain is built, so a reload starts them over.
+ */
+public interface HandlerMetrics {
+
+  /**
+   * Gets the name of the handler, which is the simple name of its class.
+   *
+   * @return The name of the handler.
+   */
+  String getHandlerName();
+
+  /**
+   * Gets the position of the handler in its chain, starting at zero.
+   *
+   * @return The position of the handler.
+   */
+  int getPosition();
+
+  /**
+   * Gets the number of identity documents processed by the handler.
+   *
+   * @return The number of invocations.
+   */
+  long getInvocationCount();
+
+  /**
+   * Gets the number of identity documents rejected by the handler.
+   *
+   * @return The number of rejections.
+   */
+  long getRejectionCount();
+
+  /**
+   * Gets the histogram of the time spent in the handler itself, excluding the next handlers.
+   *
+   * @return The latency histogram.
+   */
+  LatencyHistogram getLatencyHistogram();
+}
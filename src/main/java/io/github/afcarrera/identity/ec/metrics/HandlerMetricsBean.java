@@ -0,0 +1,84 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.metrics;
+
+/** Adapter exposing the {@link HandlerMetrics} of a handler as a {@link HandlerMetricsMXBean}. */
+final class HandlerMetricsBean implements HandlerMetricsMXBean {
+
+  /** The metrics of the handler. */
+  private final HandlerMetrics handlerMetrics;
+
+  /**
+   * Constructor for HandlerMetricsBean.
+   *
+   * @param handlerMetrics The metrics of the handler.
+   */
+  HandlerMetricsBean(HandlerMetrics handlerMetrics) {
+    this.handlerMetrics = handlerMetrics;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getHandlerName() {
+    return handlerMetrics.getHandlerName();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getPosition() {
+    return handlerMetrics.getPosition();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getInvocationCount() {
+    return handlerMetrics.getInvocationCount();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getRejectionCount() {
+    return handlerMetrics.getRejectionCount();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getMeanLatencyNanos() {
+    return handlerMetrics.getLatencyHistogram().getMean();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getP50LatencyNanos() {
+    return handlerMetrics.getLatencyHistogram().getValueAtPercentile(50);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getP99LatencyNanos() {
+    return handlerMetrics.getLatencyHistogram().getValueAtPercentile(99);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getP999LatencyNanos() {
+    return handlerMetrics.getLatencyHistogram().getValueAtPercentile(99.9);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getMaxLatencyNanos() {
+    return handlerMetrics.getLatencyHistogram().getMax();
+  }
+}
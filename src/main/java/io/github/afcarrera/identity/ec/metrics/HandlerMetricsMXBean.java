@@ -0,0 +1,86 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.metrics;
+
+/**
+ * Management interface exposing the metrics of a handler through JMX.
+ *
+ * <p>An instance is registered for each handler of an instrumented chain, under the name {@code
+ * io.github.afcarrera.identity.ec:type=HandlerMetrics,chain=<chain>,position=<position>,handler=<handler>}.
+ */
+public interface HandlerMetricsMXBean {
+
+  /**
+   * Gets the name of the handler.
+   *
+   * @return The name of the handler.
+   */
+  String getHandlerName();
+
+  /**
+   * Gets the position of the handler in its chain, starting at zero.
+   *
+   * @return The position of the handler.
+   */
+  int getPosition();
+
+  /**
+   * Gets the number of identity documents processed by the handler.
+   *
+   * @return The number of invocations.
+   */
+  long getInvocationCount();
+
+  /**
+   * Gets the number of identity documents rejected by the handler.
+   *
+   * @return The number of rejections.
+   */
+  long getRejectionCount();
+
+  /**
+   * Gets the mean latency of the handler.
+   *
+   * @return The mean latency in nanoseconds.
+   */
+  double getMeanLatencyNanos();
+
+  /**
+   * Gets the median latency of the handler.
+   *
+   * @return The median latency in nanoseconds.
+   */
+  long getP50LatencyNanos();
+
+  /**
+   * Gets the 99th percentile latency of the handler.
+   *
+   * @return The 99th percentile latency in nanoseconds.
+   */
+  long getP99LatencyNanos();
+
+  /**
+   * Gets the 99.9th percentile latency of the handler.
+   *
+   * @return The 99.9th percentile latency in nanoseconds.
+   */
+  long getP999LatencyNanos();
+
+  /**
+   * Gets the largest latency of the handler.
+   *
+   * @return The largest latency in nanoseconds.
+   */
+  long getMaxLatencyNanos();
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.metrics;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.handler.AbstractIdentityHandler;
+import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Handler recording the metrics of another handler.
+ *
+ * <p>This class extends {@link AbstractIdentityHandler} and takes the place of the handler it
+ * instruments in the chain. The instrumented handler is linked to a forwarding handler instead of
+ * the next one, so the rest of the chain runs exactly when the instrumented handler checks its next
+ * handler, whether or not it recorded a rejection; a handler may accept a value by not checking the
+ * next one, as {@link io.github.afcarrera.identity.ec.handler.impl.FirstComparisonHandler} does.
+ * The latency of the handler is recorded when it returns or checks its next handler, so it excludes
+ * the rest of the chain, and a rejection is counted only when the handler does not check its next
+ * handler. Counters are {@link LongAdder}s and latencies are recorded in a {@link
+ * LatencyHistogram}, so no lock is taken.
+ */
+public class InstrumentedIdentityHandler extends AbstractIdentityHandler implements HandlerMetrics {
+
+  /** The instrumented handler. */
+  private final IdentityHandler<IdentityDocument> handler;
+
+  /** The position of the handler in its chain. */
+  private final int position;
+
+  /** Number of identity documents processed by the handler. */
+  private final LongAdder invocationCount = new LongAdder();
+
+  /** Number of identity documents rejected by the handler. */
+  private final LongAdder rejectionCount = new LongAdder();
+
+  /** Histogram of the latencies of the handler. */
+  private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+  /**
+   * Start time of the current invocation on each thread, or {@link #FORWARDED} once the handler has
+   * checked its next handler.
+   */
+  private final ThreadLocal<long[]> startTime = ThreadLocal.withInitial(() -> new long[1]);
+
+  /** Start time marking an invocation in which the handler checked its next handler. */
+  private static final long FORWARDED = Long.MIN_VALUE;
+
+  /**
+   * Constructor for InstrumentedIdentityHandler.
+   *
+   * <p>The handler is linked to a forwarding handler, replacing its next handler.
+   *
+   * @param handler The handler to be instrumented.
+   * @param position The position of the handler in its chain.
+   */
+  public InstrumentedIdentityHandler(IdentityHandler<IdentityDocument> handler, int position) {
+    this.handler = handler;
+    this.position = position;
+    handler.setNextHandler(new ForwardingHandler(this));
+  }
+
+  /**
+   * Instruments every handler of a chain.
+   *
+   * <p>Each handler is wrapped in an instrumented handler, which relinks it to a forwarding
+   * handler, and the instrumented handlers are linked in the same order. The chain must not be in
+   * use.
+   *
+   * @param firstChainElement The first element in the identity handler chain.
+   * @return The first element in the instrumented chain.
+   */
+  public static IdentityHandler<IdentityDocument> instrument(
+      IdentityHandler<IdentityDocument> firstChainElement) {
+    List<IdentityHandler<IdentityDocument>> chain = new ArrayList<>();
+    IdentityHandler<IdentityDocument> handler = firstChainElement;
+    while (handler != null) {
+      IdentityHandler<IdentityDocument> nextHandler = handler.getNextHandler();
+      chain.add(new InstrumentedIdentityHandler(handler, chain.size()));
+      handler = nextHandler;
+    }
+    IdentityHandler<IdentityDocument> head = chain.get(0);
+    for (IdentityHandler<IdentityDocument> nextInChain : chain.subList(1, chain.size())) {
+      head.setNextHandler(nextInChain);
+      head = nextInChain;
+    }
+    return chain.get(0);
+  }
+
+  /**
+   * Gets the metrics of every instrumented handler of a chain.
+   *
+   * @param firstChainElement The first element in the identity handler chain.
+   * @return The metrics of the instrumented handlers, in chain order.
+   */
+  public static List<HandlerMetrics> getHandlerMetrics(
+      IdentityHandler<IdentityDocument> firstChainElement) {
+    List<HandlerMetrics> handlerMetrics = new ArrayList<>();
+    for (IdentityHandler<IdentityDocument> handler = firstChainElement;
+        handler != null;
+        handler = handler.getNextHandler()) {
+      if (handler instanceof HandlerMetrics) {
+        handlerMetrics.add((HandlerMetrics) handler);
+      }
+    }
+    return handlerMetrics;
+  }
+
+  /**
+   * Processes the identity document with the instrumented handler, recording its metrics.
+   *
+   * <p>The next handler is checked through the forwarding handler, when the instrumented handler
+   * checks its own next handler.
+   *
+   * @param context The identity document to be processed.
+   */
+  @Override
+  public void process(IdentityDocument context) {
+    invocationCount.increment();
+    long[] start = startTime.get();
+    start[0] = System.nanoTime();
+    try {
+      handler.process(context);
+    } catch (IdentityDocumentException identityDocumentException) {
+      if (start[0] != FORWARDED) {
+        latencyHistogram.record(System.nanoTime() - start[0]);
+        rejectionCount.increment();
+      }
+      throw identityDocumentException;
+    }
+    if (start[0] != FORWARDED) {
+      latencyHistogram.record(System.nanoTime() - start[0]);
+      if (context.getRejection() != null) {
+        rejectionCount.increment();
+      }
+    }
+  }
+
+  /**
+   * Records the latency of the instrumented handler and checks the next handler, once the
+   * instrumented handler checks its own next handler.
+   *
+   * @param context The identity document being processed.
+   */
+  private void forward(IdentityDocument context) {
+    long[] start = startTime.get();
+    latencyHistogram.record(System.nanoTime() - start[0]);
+    start[0] = FORWARDED;
+    checkNextHandler(context);
+  }
+
+  /**
+   * Gets the relative cost of the instrumented handler.
+   *
+   * @return The relative cost of the instrumented handler.
+   */
+  @Override
+  public int getCost() {
+    return handler.getCost();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getHandlerName() {
+    return handler.getClass().getSimpleName();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getPosition() {
+    return position;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getInvocationCount() {
+    return invocationCount.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getRejectionCount() {
+    return rejectionCount.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LatencyHistogram getLatencyHistogram() {
+    return latencyHistogram;
+  }
+
+  /** Handler linked after the instrumented handler, forwarding the document to the next one. */
+  private static final class ForwardingHandler extends AbstractIdentityHandler {
+
+    /** The instrumented handler whose next handler is checked. */
+    private final InstrumentedIdentityHandler instrumentedHandler;
+
+    /**
+     * Constructor for ForwardingHandler.
+     *
+     * @param instrumentedHandler The instrumented handler whose next handler is checked.
+     */
+    private ForwardingHandler(InstrumentedIdentityHandler instrumentedHandler) {
+      this.instrumentedHandler = instrumentedHandler;
+    }
+
+    /**
+     * Forwards the identity document to the next handler of the instrumented handler.
+     *
+     * @param context The identity document to be processed.
+     */
+    @Override
+    public void process(IdentityDocument context) {
+      instrumentedHandler.forward(context);
+    }
+  }
+}
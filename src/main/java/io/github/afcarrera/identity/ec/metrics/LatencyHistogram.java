@@ -0,0 +1,150 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds.
+ *
+ * <p>Latencies are counted in log-linear buckets, in the style of HdrHistogram: values below 128 ns
+ * have a bucket each, and larger values are grouped in buckets whose width is under 1/64 of their
+ * value, so every reported percentile is within 1.6% of the recorded latency. Latencies above about
+ * 68 seconds are counted in the last bucket. Each bucket is counted by its own {@link LongAdder},
+ * which spreads concurrent increments over per-thread cells, so the histogram can be shared by
+ * every thread without contending on a single counter.
+ */
+public final class LatencyHistogram {
+
+  /** Number of bits of the values counted exactly. */
+  private static final int SUB_BUCKET_BITS = 7;
+
+  /** Number of buckets of each power of two above the exact values. */
+  private static final int HALF_SUB_BUCKET_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+
+  /** Number of bits of the largest value with its own bucket. */
+  private static final int MAX_VALUE_BITS = 36;
+
+  /** Number of buckets of the histogram. */
+  private static final int BUCKET_COUNT = getBucketIndex((1L << MAX_VALUE_BITS) - 1) + 1;
+
+  /** Number of latencies counted in each bucket. */
+  private final LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+
+  /** Sum of the recorded latencies. */
+  private final LongAdder totalNanos = new LongAdder();
+
+  /** Largest recorded latency. */
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  /** Constructor for LatencyHistogram. */
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds; negative values are recorded as zero.
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts[Math.min(getBucketIndex(value), BUCKET_COUNT - 1)].increment();
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  /**
+   * Gets the number of recorded latencies.
+   *
+   * @return The number of recorded latencies.
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += counts[i].sum();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the mean of the recorded latencies.
+   *
+   * @return The mean latency in nanoseconds, or zero if no latency was recorded.
+   */
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : (double) totalNanos.sum() / count;
+  }
+
+  /**
+   * Gets the largest recorded latency.
+   *
+   * @return The largest latency in nanoseconds, or zero if no latency was recorded.
+   */
+  public long getMax() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Gets the latency below which the given percentage of the recorded latencies fall.
+   *
+   * @param percentile The percentage, between 0 and 100.
+   * @return The highest latency of the bucket holding the percentile, in nanoseconds, or zero if no
+   *     latency was recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] snapshot = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts[i].sum();
+      count += snapshot[i];
+    }
+    long target = Math.max((long) Math.ceil(Math.min(percentile, 100) / 100 * count), 1);
+    long cumulative = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulative += snapshot[i];
+      if (cumulative >= target) {
+        return Math.min(getHighestValue(i), getMax());
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the index of the bucket counting a value.
+   *
+   * @param value The value, not negative.
+   * @return The index of the bucket.
+   */
+  private static int getBucketIndex(long value) {
+    int shift = Math.max(64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS, 0);
+    return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+  }
+
+  /**
+   * Gets the highest value counted by a bucket.
+   *
+   * @param index The index of the bucket.
+   * @return The highest value of the bucket.
+   */
+  private static long getHighestValue(int index) {
+    int shift = Math.max(index / HALF_SUB_BUCKET_COUNT - 1, 0);
+    long subBucket = index - (long) shift * HALF_SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.metrics;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the metrics of the identity handler chains.
+ *
+ * <p>The metrics of each published chain are registered under the name of the chain, such as {@code
+ * CI} or {@code RUCNatural}, and exposed through JMX as one {@link HandlerMetricsMXBean} per
+ * handler. A chain without instrumented handlers has no metrics.
+ */
+public final class MetricsRegistry {
+
+  /** Logger for logging error messages. */
+  private static final Logger log = LoggerFactory.getLogger(MetricsRegistry.class);
+
+  /** Domain of the names of the registered management beans. */
+  private static final String DOMAIN = "io.github.afcarrera.identity.ec";
+
+  /** Metrics of the handlers of each chain, by chain name. */
+  private static final Map<String, List<HandlerMetrics>> METRICS = new ConcurrentHashMap<>();
+
+  /** Private constructor to prevent instantiation. */
+  private MetricsRegistry() {}
+
+  /**
+   * Registers the metrics of a published chain, replacing those of the chain it replaced.
+   *
+   * @param chainName The name of the chain.
+   * @param firstChainElement The first element in the identity handler chain.
+   */
+  public static synchronized void register(
+      String chainName, IdentityHandler<IdentityDocument> firstChainElement) {
+    List<HandlerMetrics> handlerMetrics =
+        List.copyOf(InstrumentedIdentityHandler.getHandlerMetrics(firstChainElement));
+    List<HandlerMetrics> previousMetrics =
+        handlerMetrics.isEmpty()
+            ? METRICS.remove(chainName)
+            : METRICS.put(chainName, handlerMetrics);
+    if (previousMetrics == null && handlerMetrics.isEmpty()) {
+      return;
+    }
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      for (ObjectName name : server.queryNames(getObjectName(chainName, "*", "*"), null)) {
+        server.unregisterMBean(name);
+      }
+      for (HandlerMetrics metrics : handlerMetrics) {
+        server.registerMBean(
+            new HandlerMetricsBean(metrics),
+            getObjectName(
+                chainName, String.valueOf(metrics.getPosition()), metrics.getHandlerName()));
+      }
+    } catch (JMException jmException) {
+      log.warn("Unable to register the metrics of chain {}: {}", chainName, jmException.toString());
+    }
+  }
+
+  /**
+   * Gets the metrics of the handlers of a chain.
+   *
+   * @param chainName The name of the chain.
+   * @return The metrics of the handlers, in chain order, or an empty list if the chain is not
+   *     instrumented.
+   */
+  public static List<HandlerMetrics> getHandlerMetrics(String chainName) {
+    return METRICS.getOrDefault(chainName, List.of());
+  }
+
+  /**
+   * Gets the names of the instrumented chains.
+   *
+   * @return The names of the instrumented chains.
+   */
+  public static Set<String> getChainNames() {
+    return Set.copyOf(METRICS.keySet());
+  }
+
+  /**
+   * Builds the name of the management bean of a handler.
+   *
+   * @param chainName The name of the chain.
+   * @param position The position of the handler, or a wildcard.
+   * @param handlerName The name of the handler, or a wildcard.
+   * @return The name of the management bean.
+   * @throws JMException If the name is malformed.
+   */
+  private static ObjectName getObjectName(String chainName, String position, String handlerName)
+      throws JMException {
+    return new ObjectName(
+        DOMAIN
+            + ":type=HandlerMetrics,chain="
+            + chainName
+            + ",position="
+            + position
+            + ",handler="
+            + handlerName);
+  }
+}
@@ -13,43 +13,134 @@
  */
 package io.github.afcarrera.identity.ec.processor;
 
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
 import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
 import io.github.afcarrera.identity.ec.handler.IdentityHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Abstract base class for processing identity values and managing identity documents.
  *
  * <p>This class implements {@link IdentityProcessor} and provides common functionality for
- * processing the identity document.
+ * processing the identity document. The processor holds no per-call state: each thread works on its
+ * own identity document, which is reused across calls, so a single instance can be shared.
  */
 public abstract class AbstractIdentityProcessor implements IdentityProcessor {
 
-  /** Identity document associated with the processor. */
-  private IdentityDocument identityDocument;
-
-  /** Logger for logging validation errors. */
-  private static final Logger log = LoggerFactory.getLogger(AbstractIdentityProcessor.class);
+  /** Identity document of each thread using the processor. */
+  private final ThreadLocal<IdentityDocument> identityDocument =
+      ThreadLocal.withInitial(IdentityDocument::new);
 
   /** Constructor for AbstractIdentityProcessor. */
-  protected AbstractIdentityProcessor() {
-    this.identityDocument = new IdentityDocument();
+  protected AbstractIdentityProcessor() {}
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean process(CharSequence value) {
+    IdentityHandler<IdentityDocument> firstChainElement = getFirstChainElement();
+    return processChain(firstChainElement, setIdentityDocumentValue(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean process(byte[] value, int offset, int length) {
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value, offset, length);
+    return processChain(getFirstChainElement(), document);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final RejectionReason validate(CharSequence value) {
+    IdentityDocument document = setIdentityDocumentValue(value);
+    processChain(getFirstChainElement(), document);
+    return RejectionReason.of(document.getRejection());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final RejectionReason validate(byte[] value, int offset, int length) {
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value, offset, length);
+    processChain(getFirstChainElement(), document);
+    return RejectionReason.of(document.getRejection());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IdentityDocumentException If the length is out of range.
+   */
+  @Override
+  public final boolean process(long value, int length) {
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value, length);
+    return processChain(getFirstChainElement(), document);
   }
 
   /** {@inheritDoc} */
   @Override
-  public final boolean process(String value) {
+  public final BatchResult process(String[] values) {
+    return process(values, 0, values.length);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final BatchResult process(String[] values, int fromIndex, int toIndex) {
+    IdentityHandler<IdentityDocument> firstChainElement = getFirstChainElement();
+    IdentityDocument document = identityDocument.get();
+    BatchResult result = new BatchResult(toIndex - fromIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      document.setValue(values[i]);
+      processChain(firstChainElement, document);
+      result.set(i - fromIndex, document.getRejection());
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final BatchResult process(List<String> values) {
+    IdentityHandler<IdentityDocument> firstChainElement = getFirstChainElement();
+    IdentityDocument document = identityDocument.get();
+    BatchResult result = new BatchResult(values.size());
+    Iterator<String> iterator = values.iterator();
+    for (int i = 0; iterator.hasNext(); i++) {
+      document.setValue(iterator.next());
+      processChain(firstChainElement, document);
+      result.set(i, document.getRejection());
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IdentityDocumentException If the length of the values is not a multiple of the width.
+   */
+  @Override
+  public final BatchResult process(byte[] values, int width) {
+    if (width <= 0 || values.length % width != 0) {
+      throw new IdentityDocumentException("Invalid packed values length.");
+    }
     IdentityHandler<IdentityDocument> firstChainElement = getFirstChainElement();
-    setIdentityDocumentValue(value);
-    return processChain(firstChainElement, identityDocument);
+    IdentityDocument document = identityDocument.get();
+    BatchResult result = new BatchResult(values.length / width);
+    for (int i = 0; i < result.size(); i++) {
+      document.setValue(values, i * width, width);
+      processChain(firstChainElement, document);
+      result.set(i, document.getRejection());
+    }
+    return result;
   }
 
   /** {@inheritDoc} */
   @Override
   public IdentityDocument getIdentityDocument() {
-    return identityDocument;
+    return identityDocument.get();
   }
 
   /**
@@ -60,31 +151,42 @@ public abstract class AbstractIdentityProcessor implements IdentityProcessor {
   protected abstract IdentityHandler<IdentityDocument> getFirstChainElement();
 
   /**
-   * Sets the value of the identity document.
+   * Sets the value of the identity document of the calling thread.
    *
    * @param value The value to be set in the identity document.
    * @return The updated identity document.
    */
-  protected IdentityDocument setIdentityDocumentValue(String value) {
-    this.identityDocument.setValue(value);
-    return identityDocument;
+  protected IdentityDocument setIdentityDocumentValue(CharSequence value) {
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value);
+    return document;
   }
 
   /**
    * Processes the identity document through the chain of handlers.
    *
+   * <p>Handlers either record their rejection in the identity document or throw it; in both cases
+   * the rejection is left in the identity document, so the handler that rejected the value can be
+   * retrieved from it, and reported to the configured rejection listener.
+   *
    * @param firstChainElement The first element in the chain of identity handlers.
    * @param identityDocument The identity document to be processed.
    * @return `true` if the processing is successful, otherwise `false`.
    */
   protected boolean processChain(
       IdentityHandler<IdentityDocument> firstChainElement, IdentityDocument identityDocument) {
+    identityDocument.setRejection(null);
     try {
       firstChainElement.process(identityDocument);
     } catch (IdentityDocumentException identityDocumentException) {
-      log.error(identityDocumentException.getMessage());
-      return false;
+      identityDocument.setRejection(identityDocumentException);
+    }
+    IdentityDocumentException rejection = identityDocument.getRejection();
+    if (rejection == null) {
+      return true;
     }
-    return true;
+    DocumentValidatorConfig.getRejectionListener()
+        .onRejected(identityDocument.getValue(), rejection);
+    return false;
   }
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.processor;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Class representing the result of processing a batch of identity values.
+ *
+ * <p>This class keeps the outcome of each value in a {@link BitSet}, indexed by the position of the
+ * value in the batch, and the number of rejections of each handler.
+ */
+public class BatchResult {
+
+  /** Number of values in the batch. */
+  private final int size;
+
+  /** Set holding the positions of the valid values. */
+  private final BitSet valid;
+
+  /** Map holding the number of rejections of each handler class. */
+  private final Map<Class<?>, long[]> rejectionCounts = new HashMap<>();
+
+  /** Number of rejections of each reason, indexed by the reason code. */
+  private final long[] reasonCounts = new long[RejectionReason.values().length];
+
+  /** Last recorded rejection, shared by consecutive rejections of the same handler. */
+  private IdentityDocumentException lastRejection;
+
+  /** Counter of the handler of the last recorded rejection. */
+  private long[] lastRejectionCount;
+
+  /**
+   * Constructor for BatchResult.
+   *
+   * @param size Number of values in the batch.
+   */
+  BatchResult(int size) {
+    this.size = size;
+    this.valid = new BitSet(size);
+  }
+
+  /**
+   * Records the outcome of a value.
+   *
+   * @param index Position of the value in the batch.
+   * @param rejection The exception with which the value was rejected, or null if it is valid.
+   */
+  void set(int index, IdentityDocumentException rejection) {
+    if (rejection == null) {
+      valid.set(index);
+      return;
+    }
+    if (rejection != lastRejection) {
+      lastRejection = rejection;
+      lastRejectionCount =
+          rejectionCounts.computeIfAbsent(
+              IdentityRejectedException.getSourceClass(rejection), source -> new long[1]);
+    }
+    lastRejectionCount[0]++;
+    reasonCounts[RejectionReason.of(rejection).getCode()]++;
+  }
+
+  /**
+   * Adds the outcome of a processed range of the batch.
+   *
+   * @param offset Position in the batch of the first value of the range.
+   * @param range The result of processing the range.
+   */
+  void add(int offset, BatchResult range) {
+    for (int i = range.valid.nextSetBit(0); i >= 0; i = range.valid.nextSetBit(i + 1)) {
+      valid.set(offset + i);
+    }
+    range.rejectionCounts.forEach(
+        (source, count) ->
+            rejectionCounts.computeIfAbsent(source, key -> new long[1])[0] += count[0]);
+    for (int i = 0; i < reasonCounts.length; i++) {
+      reasonCounts[i] += range.reasonCounts[i];
+    }
+  }
+
+  /**
+   * Gets the number of values in the batch.
+   *
+   * @return The number of values.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the value at the given position is valid.
+   *
+   * @param index Position of the value in the batch.
+   * @return `true` if the value is valid, otherwise `false`.
+   */
+  public boolean isValid(int index) {
+    return valid.get(index);
+  }
+
+  /**
+   * Gets the positions of the valid values.
+   *
+   * @return A copy of the set holding the positions of the valid values.
+   */
+  public BitSet getValid() {
+    return (BitSet) valid.clone();
+  }
+
+  /**
+   * Gets the number of valid values.
+   *
+   * @return The number of valid values.
+   */
+  public int getValidCount() {
+    return valid.cardinality();
+  }
+
+  /**
+   * Gets the number of invalid values.
+   *
+   * @return The number of invalid values.
+   */
+  public int getInvalidCount() {
+    return size - getValidCount();
+  }
+
+  /**
+   * Gets the number of values rejected by a handler.
+   *
+   * @param handlerClass The class of the handler.
+   * @return The number of rejections.
+   */
+  public long getRejectionCount(Class<?> handlerClass) {
+    long[] count = rejectionCounts.get(handlerClass);
+    return count == null ? 0 : count[0];
+  }
+
+  /**
+   * Gets the number of values rejected for a reason.
+   *
+   * @param reason The reason of the rejections.
+   * @return The number of rejections, or the number of valid values for {@link
+   *     RejectionReason#NONE}.
+   */
+  public long getRejectionCount(RejectionReason reason) {
+    return reason == RejectionReason.NONE ? getValidCount() : reasonCounts[reason.getCode()];
+  }
+
+  /**
+   * Gets the number of rejections of every handler that rejected at least one value.
+   *
+   * @return Map of rejection counts by handler class.
+   */
+  public Map<Class<?>, Long> getRejectionCounts() {
+    return rejectionCounts.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue()[0]));
+  }
+}
@@ -0,0 +1,455 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.processor;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Processor that caches the outcome of another {@link IdentityProcessor} for repeated values.
+ *
+ * <p>This class is a decorator: values are looked up in a bounded cache before being processed by
+ * the decorated processor, so a repeated value skips the chain of handlers. The cache is keyed on
+ * the digits and length of the value packed into a {@code long}, and is organized in sets of two
+ * entries; a hit on the older entry of a set promotes it, and a miss evicts the older entry, so
+ * each set behaves as a small LRU list. Values that are not made only of digits, or have more than
+ * 17 of them, are always processed by the decorated processor.
+ *
+ * <p>Entries are immutable and replaced without locking, so the cache is thread-safe; concurrent
+ * updates of the same set may drop an entry, which only costs a later miss. Entries computed before
+ * the configuration was reloaded are ignored, and a value processed while the configuration is
+ * reloaded is not cached.
+ *
+ * <p>Rejections found in the cache are reported to the rejection listener, like those of the
+ * decorated processor, so listeners such as a rejection counter see every rejected value. The
+ * handler metrics describe the work of the handlers, so they only count the values that reach the
+ * chain: a cache hit is neither an invocation nor a rejection of any handler.
+ *
+ * <p>The decorator keeps an identity document for each thread, holding the value it last processed
+ * and its rejection, whether it was found in the cache or not. The intermediate values of the check
+ * digit calculation are not kept, since a cache hit does not calculate them.
+ */
+public class CachingIdentityProcessor implements IdentityProcessor {
+
+  /** Key of a value that cannot be cached. */
+  private static final long NO_KEY = 0;
+
+  /** Maximum number of digits of a cached value. */
+  private static final int MAX_KEY_LENGTH = 17;
+
+  /** Position of the length of the value within a key, above its digits. */
+  private static final int KEY_LENGTH_SHIFT = 57;
+
+  /** Powers of ten up to the maximum number of digits of a cached value. */
+  private static final long[] POWERS_OF_TEN = new long[MAX_KEY_LENGTH + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i <= MAX_KEY_LENGTH; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  /** Number of entries of each set. */
+  private static final int WAYS = 2;
+
+  /** Processor used to process the values missing from the cache. */
+  private final IdentityProcessor identityProcessor;
+
+  /** Entries of the cache, grouped by set. */
+  private final AtomicReferenceArray<Entry> entries;
+
+  /** Mask selecting the set of a key. */
+  private final int setMask;
+
+  /** Number of values found in the cache. */
+  private final LongAdder hitCount = new LongAdder();
+
+  /** Number of cacheable values missing from the cache. */
+  private final LongAdder missCount = new LongAdder();
+
+  /** Identity document of each thread, holding the last processed value and its rejection. */
+  private final ThreadLocal<IdentityDocument> identityDocument =
+      ThreadLocal.withInitial(IdentityDocument::new);
+
+  /**
+   * Constructor for CachingIdentityProcessor.
+   *
+   * @param identityProcessor The processor used to process the values missing from the cache.
+   * @param maximumSize The maximum number of cached values, rounded up to a power of two.
+   * @throws IdentityDocumentException If the maximum size is not between 2 and 2^30.
+   */
+  public CachingIdentityProcessor(IdentityProcessor identityProcessor, int maximumSize) {
+    if (maximumSize < WAYS || maximumSize > 1 << 30) {
+      throw new IdentityDocumentException("Invalid cache size.");
+    }
+    int minimumSetCount = (maximumSize + WAYS - 1) / WAYS;
+    int setCount = minimumSetCount == 1 ? 1 : Integer.highestOneBit(minimumSetCount - 1) << 1;
+    this.identityProcessor = identityProcessor;
+    this.entries = new AtomicReferenceArray<>(setCount * WAYS);
+    this.setMask = setCount - 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(CharSequence value) {
+    return getRejection(value) == null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(byte[] value, int offset, int length) {
+    return getRejection(value, offset, length) == null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RejectionReason validate(CharSequence value) {
+    return RejectionReason.of(getRejection(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RejectionReason validate(byte[] value, int offset, int length) {
+    return RejectionReason.of(getRejection(value, offset, length));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(long value, int length) {
+    long key = getKey(value, length);
+    if (key == NO_KEY) {
+      boolean valid = identityProcessor.process(value, length);
+      IdentityDocument document = identityDocument.get();
+      document.setValue(value, length);
+      document.setRejection(valid ? null : identityProcessor.getIdentityDocument().getRejection());
+      return valid;
+    }
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value, length);
+    long version = DocumentValidatorConfig.getConfigurationVersion();
+    Entry entry = getEntry(key, version);
+    IdentityDocumentException rejection;
+    if (entry != null) {
+      rejection = entry.rejection;
+      notifyRejection(document, rejection);
+    } else {
+      rejection =
+          identityProcessor.process(value, length)
+              ? null
+              : identityProcessor.getIdentityDocument().getRejection();
+      putEntry(key, version, rejection);
+    }
+    document.setRejection(rejection);
+    return rejection == null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public BatchResult process(String[] values) {
+    return process(values, 0, values.length);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public BatchResult process(String[] values, int fromIndex, int toIndex) {
+    BatchResult result = new BatchResult(toIndex - fromIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      result.set(i - fromIndex, getRejection(values[i]));
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public BatchResult process(List<String> values) {
+    BatchResult result = new BatchResult(values.size());
+    Iterator<String> iterator = values.iterator();
+    for (int i = 0; iterator.hasNext(); i++) {
+      result.set(i, getRejection(iterator.next()));
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IdentityDocumentException If the length of the values is not a multiple of the width.
+   */
+  @Override
+  public BatchResult process(byte[] values, int width) {
+    if (width <= 0 || values.length % width != 0) {
+      throw new IdentityDocumentException("Invalid packed values length.");
+    }
+    BatchResult result = new BatchResult(values.length / width);
+    for (int i = 0; i < result.size(); i++) {
+      result.set(i, getRejection(values, i * width, width));
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The document holds the value and the rejection, but not the intermediate values of the check
+   * digit calculation.
+   */
+  @Override
+  public IdentityDocument getIdentityDocument() {
+    return identityDocument.get();
+  }
+
+  /**
+   * Gets the number of values found in the cache.
+   *
+   * @return The number of cache hits.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Gets the number of cacheable values missing from the cache.
+   *
+   * @return The number of cache misses.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /** Removes every entry from the cache. */
+  public void invalidateAll() {
+    for (int i = 0; i < entries.length(); i++) {
+      entries.setRelease(i, null);
+    }
+  }
+
+  /**
+   * Validates a value, setting it in the document of the calling thread.
+   *
+   * @param value The value to be validated.
+   * @return The exception with which the value was rejected, or null if it is valid.
+   */
+  private IdentityDocumentException getRejection(CharSequence value) {
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value);
+    return getRejection(document);
+  }
+
+  /**
+   * Validates the value of a document, looking it up in the cache first, and records its rejection
+   * in the document.
+   *
+   * @param document The document of the calling thread, holding the value to be validated.
+   * @return The exception with which the value was rejected, or null if it is valid.
+   */
+  private IdentityDocumentException getRejection(IdentityDocument document) {
+    CharSequence value = document.getValue();
+    long key = getKey(value);
+    IdentityDocumentException rejection;
+    if (key == NO_KEY) {
+      rejection = processValue(value);
+    } else {
+      long version = DocumentValidatorConfig.getConfigurationVersion();
+      Entry entry = getEntry(key, version);
+      if (entry != null) {
+        rejection = entry.rejection;
+        notifyRejection(document, rejection);
+      } else {
+        rejection = processValue(value);
+        putEntry(key, version, rejection);
+      }
+    }
+    document.setRejection(rejection);
+    return rejection;
+  }
+
+  /**
+   * Validates a value stored as ASCII bytes, wrapping them in the document of the calling thread
+   * instead of copying them.
+   *
+   * @param value The bytes holding the value.
+   * @param offset The index of the first byte of the value.
+   * @param length The number of bytes of the value.
+   * @return The exception with which the value was rejected, or null if it is valid.
+   */
+  private IdentityDocumentException getRejection(byte[] value, int offset, int length) {
+    IdentityDocument document = identityDocument.get();
+    document.setValue(value, offset, length);
+    return getRejection(document);
+  }
+
+  /**
+   * Looks up a key in the cache, promoting it within its set when found in the older entry.
+   *
+   * @param key The key of the value.
+   * @param version The current version of the configuration.
+   * @return The entry of the key, or null if it is missing.
+   */
+  private Entry getEntry(long key, long version) {
+    int first = getSet(key) * WAYS;
+    Entry newer = entries.getAcquire(first);
+    if (newer != null && newer.matches(key, version)) {
+      hitCount.increment();
+      return newer;
+    }
+    Entry older = entries.getAcquire(first + 1);
+    if (older != null && older.matches(key, version)) {
+      hitCount.increment();
+      entries.setRelease(first, older);
+      entries.setRelease(first + 1, newer);
+      return older;
+    }
+    missCount.increment();
+    return null;
+  }
+
+  /**
+   * Adds an entry to the cache as the newer entry of its set, evicting the older one.
+   *
+   * <p>The entry is dropped if the configuration was reloaded while the value was processed, since
+   * the value may then have been processed by the chains of the newer version.
+   *
+   * @param key The key of the value.
+   * @param version The version of the configuration read before the value was processed.
+   * @param rejection The exception with which the value was rejected, or null if it is valid.
+   */
+  private void putEntry(long key, long version, IdentityDocumentException rejection) {
+    if (DocumentValidatorConfig.getConfigurationVersion() != version) {
+      return;
+    }
+    int first = getSet(key) * WAYS;
+    entries.setRelease(first + 1, entries.getAcquire(first));
+    entries.setRelease(first, new Entry(key, version, rejection));
+  }
+
+  /**
+   * Reports a rejection found in the cache to the rejection listener, as the decorated processor
+   * does for the values it processes.
+   *
+   * @param document The document holding the value found in the cache.
+   * @param rejection The exception with which the value was rejected, or null if it is valid.
+   */
+  private static void notifyRejection(
+      IdentityDocument document, IdentityDocumentException rejection) {
+    if (rejection != null) {
+      DocumentValidatorConfig.getRejectionListener().onRejected(document.getValue(), rejection);
+    }
+  }
+
+  /**
+   * Processes a value with the decorated processor.
+   *
+   * @param value The value to be processed.
+   * @return The exception with which the value was rejected, or null if it is valid.
+   */
+  private IdentityDocumentException processValue(CharSequence value) {
+    return identityProcessor.process(value)
+        ? null
+        : identityProcessor.getIdentityDocument().getRejection();
+  }
+
+  /**
+   * Gets the set of a key.
+   *
+   * @param key The key of a value.
+   * @return The index of the set of the key.
+   */
+  private int getSet(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & setMask;
+  }
+
+  /**
+   * Packs the digits and the length of a value into a key.
+   *
+   * @param value The value to be packed.
+   * @return The key of the value, or {@link #NO_KEY} if the value cannot be cached.
+   */
+  private static long getKey(CharSequence value) {
+    if (value == null) {
+      return NO_KEY;
+    }
+    int length = value.length();
+    if (length == 0 || length > MAX_KEY_LENGTH) {
+      return NO_KEY;
+    }
+    long number = 0;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return NO_KEY;
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number | (long) length << KEY_LENGTH_SHIFT;
+  }
+
+  /**
+   * Packs a numeric value and its number of digits into a key.
+   *
+   * @param value The numeric value to be packed.
+   * @param length The number of digits of the value.
+   * @return The key of the value, or {@link #NO_KEY} if the value cannot be cached.
+   */
+  private static long getKey(long value, int length) {
+    if (length < 1 || length > MAX_KEY_LENGTH || value < 0 || value >= POWERS_OF_TEN[length]) {
+      return NO_KEY;
+    }
+    return value | (long) length << KEY_LENGTH_SHIFT;
+  }
+
+  /** Immutable entry of the cache. */
+  private static final class Entry {
+
+    /** Key of the cached value. */
+    private final long key;
+
+    /** Version of the configuration with which the value was processed. */
+    private final long version;
+
+    /** The exception with which the value was rejected, or null if it is valid. */
+    private final IdentityDocumentException rejection;
+
+    /**
+     * Constructor for Entry.
+     *
+     * @param key Key of the cached value.
+     * @param version Version of the configuration with which the value was processed.
+     * @param rejection The exception with which the value was rejected, or null if it is valid.
+     */
+    private Entry(long key, long version, IdentityDocumentException rejection) {
+      this.key = key;
+      this.version = version;
+      this.rejection = rejection;
+    }
+
+    /**
+     * Checks whether the entry holds a value processed with the current configuration.
+     *
+     * @param key Key of the value.
+     * @param version Current version of the configuration.
+     * @return `true` if the entry holds the value, otherwise `false`.
+     */
+    private boolean matches(long key, long version) {
+      return this.key == key && this.version == version;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.processor;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Class representing the result of processing a file of identity values.
+ *
+ * <p>Unlike {@link BatchResult}, this class does not keep the outcome of each record, which would
+ * not fit in memory for large files; the line numbers of the invalid records can be written to an
+ * index file instead. It keeps the number of records, of valid records and of rejections of each
+ * handler.
+ */
+public class FileResult {
+
+  /** Number of processed records. */
+  private long recordCount;
+
+  /** Number of valid records. */
+  private long validCount;
+
+  /** Map holding the number of rejections of each handler class. */
+  private final Map<Class<?>, long[]> rejectionCounts = new HashMap<>();
+
+  /** Number of rejections of each reason, indexed by the reason code. */
+  private final long[] reasonCounts = new long[RejectionReason.values().length];
+
+  /** Last recorded rejection, shared by consecutive rejections of the same handler. */
+  private IdentityDocumentException lastRejection;
+
+  /** Counter of the handler of the last recorded rejection. */
+  private long[] lastRejectionCount;
+
+  /** Constructor for FileResult. */
+  FileResult() {}
+
+  /**
+   * Records the outcome of a record.
+   *
+   * @param rejection The exception with which the record was rejected, or null if it is valid.
+   */
+  void add(IdentityDocumentException rejection) {
+    recordCount++;
+    if (rejection == null) {
+      validCount++;
+      return;
+    }
+    if (rejection != lastRejection) {
+      lastRejection = rejection;
+      lastRejectionCount =
+          rejectionCounts.computeIfAbsent(
+              IdentityRejectedException.getSourceClass(rejection), source -> new long[1]);
+    }
+    lastRejectionCount[0]++;
+    reasonCounts[RejectionReason.of(rejection).getCode()]++;
+  }
+
+  /**
+   * Gets the number of processed records.
+   *
+   * @return The number of records.
+   */
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Gets the number of valid records.
+   *
+   * @return The number of valid records.
+   */
+  public long getValidCount() {
+    return validCount;
+  }
+
+  /**
+   * Gets the number of invalid records.
+   *
+   * @return The number of invalid records.
+   */
+  public long getInvalidCount() {
+    return recordCount - validCount;
+  }
+
+  /**
+   * Gets the number of records rejected by a handler.
+   *
+   * @param handlerClass The class of the handler.
+   * @return The number of rejections.
+   */
+  public long getRejectionCount(Class<?> handlerClass) {
+    long[] count = rejectionCounts.get(handlerClass);
+    return count == null ? 0 : count[0];
+  }
+
+  /**
+   * Gets the number of records rejected for a reason.
+   *
+   * @param reason The reason of the rejections.
+   * @return The number of rejections, or the number of valid records for {@link
+   *     RejectionReason#NONE}.
+   */
+  public long getRejectionCount(RejectionReason reason) {
+    return reason == RejectionReason.NONE ? validCount : reasonCounts[reason.getCode()];
+  }
+
+  /**
+   * Gets the number of rejections of every handler that rejected at least one record.
+   *
+   * @return Map of rejection counts by handler class.
+   */
+  public Map<Class<?>, Long> getRejectionCounts() {
+    return rejectionCounts.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue()[0]));
+  }
+}
@@ -14,20 +14,111 @@
 package io.github.afcarrera.identity.ec.processor;
 
 import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import java.util.List;
 
-/** Interface for processing identity documents. */
+/**
+ * Interface for processing identity documents.
+ *
+ * <p>Implementations are thread-safe, so a single instance can be shared by every thread.
+ */
 public interface IdentityProcessor {
 
   /**
    * Processes the given identity value.
    *
+   * <p>The value is only read during the call, so it may be a view over a buffer that is reused
+   * afterwards.
+   *
+   * @param value The identity value to be processed.
+   * @return `true` if the processing is successful, otherwise `false`.
+   */
+  boolean process(CharSequence value);
+
+  /**
+   * Processes an identity value stored as ASCII bytes.
+   *
+   * <p>The bytes are read in place during the call, without creating a string, so they may belong
+   * to an I/O buffer that is reused afterwards.
+   *
+   * @param value The bytes holding the identity value.
+   * @param offset The index of the first byte of the identity value.
+   * @param length The number of bytes of the identity value.
+   * @return `true` if the processing is successful, otherwise `false`.
+   */
+  boolean process(byte[] value, int offset, int length);
+
+  /**
+   * Validates the given identity value and gets the reason of its rejection.
+   *
+   * <p>The reason is carried by the preallocated rejection of the handler that rejected the value,
+   * so no object is created.
+   *
+   * @param value The identity value to be validated.
+   * @return The reason of the rejection, or {@link RejectionReason#NONE} if the value is valid.
+   */
+  RejectionReason validate(CharSequence value);
+
+  /**
+   * Validates an identity value stored as ASCII bytes, reading them in place, and gets the reason
+   * of its rejection.
+   *
+   * @param value The bytes holding the identity value.
+   * @param offset The index of the first byte of the identity value.
+   * @param length The number of bytes of the identity value.
+   * @return The reason of the rejection, or {@link RejectionReason#NONE} if the value is valid.
+   */
+  RejectionReason validate(byte[] value, int offset, int length);
+
+  /**
+   * Processes an identity value stored as a number.
+   *
+   * <p>The number is processed as its decimal digits, zero-padded on the left to the given length,
+   * without creating a string.
+   *
    * @param value The identity value to be processed.
+   * @param length The number of digits of the identity value, between 1 and 19.
    * @return `true` if the processing is successful, otherwise `false`.
    */
-  boolean process(String value);
+  boolean process(long value, int length);
+
+  /**
+   * Processes a batch of identity values.
+   *
+   * @param values The identity values to be processed.
+   * @return The result of processing each value.
+   */
+  BatchResult process(String[] values);
+
+  /**
+   * Processes a range of a batch of identity values.
+   *
+   * @param values The identity values.
+   * @param fromIndex Index of the first value to be processed, inclusive.
+   * @param toIndex Index of the last value to be processed, exclusive.
+   * @return The result of processing each value of the range, indexed from the start of the range.
+   */
+  BatchResult process(String[] values, int fromIndex, int toIndex);
+
+  /**
+   * Processes a batch of identity values.
+   *
+   * @param values The identity values to be processed.
+   * @return The result of processing each value.
+   */
+  BatchResult process(List<String> values);
+
+  /**
+   * Processes a batch of fixed-width identity values packed as ASCII bytes.
+   *
+   * @param values The packed identity values, with no separator between them.
+   * @param width The number of bytes of each identity value.
+   * @return The result of processing each value.
+   */
+  BatchResult process(byte[] values, int width);
 
   /**
-   * Retrieves the identity document associated with the processor.
+   * Retrieves the identity document last processed by the calling thread.
    *
    * @return The identity document.
    */
@@ -0,0 +1,278 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.processor;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Processor for validating files of identity values through a memory mapping.
+ *
+ * <p>This class maps the file with {@link FileChannel#map} in windows of up to 256 MiB and scans
+ * the records in the mapped bytes. The identity value of each record is copied with a single bulk
+ * read into a buffer reused across records, and validated with a shared {@link IdentityProcessor}
+ * through {@link IdentityProcessor#validate(byte[], int, int)}, so no {@link String} is created per
+ * record. Records are separated by line feeds, optionally preceded by a carriage return, and the
+ * identity value is taken from a column of each record; a file with a single value per line is read
+ * with the default column. Blank lines are skipped, and a field enclosed in double quotes is read
+ * without them.
+ *
+ * <p>The line numbers of the invalid records can be written to an index file, one per line, so that
+ * the outcome of files with hundreds of millions of records does not have to be kept in memory.
+ */
+public class MappedFileProcessor {
+
+  /** Maximum number of bytes mapped at once. */
+  private static final long WINDOW_SIZE = 1L << 28;
+
+  /** Maximum number of digits of a line number. */
+  private static final int MAX_LINE_NUMBER_LENGTH = 19;
+
+  /** Processor used to validate each record. */
+  private final IdentityProcessor identityProcessor;
+
+  /** Byte separating the columns of a record. */
+  private final byte delimiter;
+
+  /** Index of the column holding the identity value. */
+  private final int column;
+
+  /** Flag indicating whether the first line is a header to be skipped. */
+  private final boolean hasHeader;
+
+  /**
+   * Constructor for MappedFileProcessor reading comma-separated records with the identity value in
+   * the first column and no header.
+   *
+   * @param identityProcessor The processor used to validate each record.
+   */
+  public MappedFileProcessor(IdentityProcessor identityProcessor) {
+    this(identityProcessor, ',', 0, false);
+  }
+
+  /**
+   * Constructor for MappedFileProcessor.
+   *
+   * @param identityProcessor The processor used to validate each record.
+   * @param delimiter The ASCII character separating the columns of a record.
+   * @param column The index of the column holding the identity value, starting at 0.
+   * @param hasHeader Flag indicating whether the first line is a header to be skipped.
+   * @throws IdentityDocumentException If the delimiter is not a valid ASCII character or the column
+   *     is negative.
+   */
+  public MappedFileProcessor(
+      IdentityProcessor identityProcessor, char delimiter, int column, boolean hasHeader) {
+    if (delimiter > 0x7F || delimiter == '\n' || delimiter == '\r') {
+      throw new IdentityDocumentException("Invalid delimiter.");
+    }
+    if (column < 0) {
+      throw new IdentityDocumentException("Invalid column.");
+    }
+    this.identityProcessor = identityProcessor;
+    this.delimiter = (byte) delimiter;
+    this.column = column;
+    this.hasHeader = hasHeader;
+  }
+
+  /**
+   * Processes the records of a file.
+   *
+   * @param input The file to be processed.
+   * @return The result of processing the records.
+   * @throws IOException If the file cannot be read.
+   */
+  public FileResult process(Path input) throws IOException {
+    return process(input, null);
+  }
+
+  /**
+   * Processes the records of a file, writing the line numbers of the invalid records to an index
+   * file.
+   *
+   * @param input The file to be processed.
+   * @param invalidLineIndex The file to which the line numbers of the invalid records are written,
+   *     starting at 1 and one per line, or null if no index is needed.
+   * @return The result of processing the records.
+   * @throws IOException If the file cannot be read or the index cannot be written.
+   */
+  public FileResult process(Path input, Path invalidLineIndex) throws IOException {
+    try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+        OutputStream output =
+            invalidLineIndex == null
+                ? null
+                : new BufferedOutputStream(Files.newOutputStream(invalidLineIndex))) {
+      FileScan scan = new FileScan(output);
+      long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        long windowSize = Math.min(WINDOW_SIZE, size - position);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+        boolean isLastWindow = position + windowSize == size;
+        int processed = scan.processWindow(buffer, (int) windowSize, isLastWindow);
+        if (processed == 0) {
+          throw new IdentityDocumentException("Line too long.");
+        }
+        position += processed;
+      }
+      return scan.result;
+    }
+  }
+
+  /** State of the processing of a single file. */
+  private final class FileScan {
+
+    /** Result of processing the records. */
+    private final FileResult result = new FileResult();
+
+    /** Buffer reused to write each line number to the index. */
+    private final byte[] lineNumber = new byte[MAX_LINE_NUMBER_LENGTH + 1];
+
+    /** Stream to which the invalid line numbers are written, or null if no index is needed. */
+    private final OutputStream output;
+
+    /** Buffer reused to hold the bytes of each identity value. */
+    private byte[] field = new byte[16];
+
+    /** View of the current window, positioned to copy each identity value in bulk. */
+    private ByteBuffer window;
+
+    /** Number of the last processed line. */
+    private long line;
+
+    /**
+     * Constructor for FileScan.
+     *
+     * @param output The stream to which the invalid line numbers are written, or null.
+     */
+    private FileScan(OutputStream output) {
+      this.output = output;
+    }
+
+    /**
+     * Processes the complete lines of a mapped window.
+     *
+     * @param buffer The mapped window.
+     * @param limit The number of bytes of the window.
+     * @param isLastWindow Flag indicating whether the window ends at the end of the file, so that a
+     *     last line without line feed is complete.
+     * @return The number of bytes of the processed lines.
+     * @throws IOException If the index cannot be written.
+     */
+    private int processWindow(MappedByteBuffer buffer, int limit, boolean isLastWindow)
+        throws IOException {
+      window = buffer.duplicate();
+      int start = 0;
+      for (int i = 0; i < limit; i++) {
+        if (buffer.get(i) == '\n') {
+          processLine(buffer, start, i);
+          start = i + 1;
+        }
+      }
+      if (isLastWindow && start < limit) {
+        processLine(buffer, start, limit);
+        start = limit;
+      }
+      return start;
+    }
+
+    /**
+     * Processes a line, validating the identity value of its column.
+     *
+     * @param buffer The mapped window holding the line.
+     * @param start Index of the first byte of the line.
+     * @param end Index following the last byte of the line, excluding the line feed.
+     * @throws IOException If the index cannot be written.
+     */
+    private void processLine(MappedByteBuffer buffer, int start, int end) throws IOException {
+      line++;
+      if (end > start && buffer.get(end - 1) == '\r') {
+        end--;
+      }
+      if (end == start || (hasHeader && line == 1)) {
+        return;
+      }
+      int fieldStart = start;
+      for (int i = 0; i < column && fieldStart < end; i++) {
+        int next = indexOfDelimiter(buffer, fieldStart, end);
+        fieldStart = next < 0 ? end : next + 1;
+      }
+      int fieldEnd = indexOfDelimiter(buffer, fieldStart, end);
+      if (fieldEnd < 0) {
+        fieldEnd = end;
+      }
+      if (fieldEnd - fieldStart >= 2
+          && buffer.get(fieldStart) == '"'
+          && buffer.get(fieldEnd - 1) == '"') {
+        fieldStart++;
+        fieldEnd--;
+      }
+      int length = fieldEnd - fieldStart;
+      if (field.length < length) {
+        field = new byte[Math.max(length, field.length * 2)];
+      }
+      window.position(fieldStart);
+      window.get(field, 0, length);
+      if (identityProcessor.validate(field, 0, length) == RejectionReason.NONE) {
+        result.add(null);
+        return;
+      }
+      result.add(identityProcessor.getIdentityDocument().getRejection());
+      if (output != null) {
+        writeLineNumber();
+      }
+    }
+
+    /**
+     * Finds the next delimiter of a line.
+     *
+     * @param buffer The mapped window holding the line.
+     * @param from Index from which to search.
+     * @param end Index following the last byte of the line.
+     * @return The index of the delimiter, or -1 if there is none.
+     */
+    private int indexOfDelimiter(MappedByteBuffer buffer, int from, int end) {
+      for (int i = from; i < end; i++) {
+        if (buffer.get(i) == delimiter) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Writes the number of the current line to the index.
+     *
+     * @throws IOException If the index cannot be written.
+     */
+    private void writeLineNumber() throws IOException {
+      int index = lineNumber.length;
+      lineNumber[--index] = '\n';
+      long value = line;
+      do {
+        lineNumber[--index] = (byte) ('0' + value % 10);
+        value /= 10;
+      } while (value > 0);
+      output.write(lineNumber, index, lineNumber.length - index);
+    }
+  }
+}
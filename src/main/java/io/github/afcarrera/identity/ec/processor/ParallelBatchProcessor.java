@@ -0,0 +1,143 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Processor for validating large batches of identity values on several threads.
+ *
+ * <p>This class splits a batch into ranges, processes each range with a shared {@link
+ * IdentityProcessor} on the given executor and merges the results in order. By default the ranges
+ * run on the common fork-join pool; any executor can be supplied instead, including one running a
+ * virtual thread per task.
+ */
+public class ParallelBatchProcessor {
+
+  /** Minimum number of values of each range. */
+  private static final int MIN_RANGE_SIZE = 1024;
+
+  /** Processor used to validate each range. */
+  private final IdentityProcessor identityProcessor;
+
+  /** Executor running the ranges. */
+  private final Executor executor;
+
+  /** Number of ranges each batch is split into, unless they would be too small. */
+  private final int parallelism;
+
+  /**
+   * Constructor for ParallelBatchProcessor running on the common fork-join pool.
+   *
+   * <p>Batches are split into four ranges per thread of the pool, to balance uneven ranges.
+   *
+   * @param identityProcessor The processor used to validate each range.
+   */
+  public ParallelBatchProcessor(IdentityProcessor identityProcessor) {
+    this(identityProcessor, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() * 4);
+  }
+
+  /**
+   * Constructor for ParallelBatchProcessor.
+   *
+   * @param identityProcessor The processor used to validate each range.
+   * @param executor The executor running the ranges.
+   * @param parallelism The number of ranges each batch is split into.
+   */
+  public ParallelBatchProcessor(
+      IdentityProcessor identityProcessor, Executor executor, int parallelism) {
+    this.identityProcessor = identityProcessor;
+    this.executor = executor;
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Processes a batch of identity values.
+   *
+   * @param values The identity values to be processed.
+   * @return The result of processing each value.
+   */
+  public BatchResult process(String[] values) {
+    int rangeSize = getRangeSize(values.length);
+    List<CompletableFuture<BatchResult>> ranges = new ArrayList<>();
+    for (int from = 0; from < values.length; from += rangeSize) {
+      int fromIndex = from;
+      int toIndex = Math.min(values.length, from + rangeSize);
+      ranges.add(
+          CompletableFuture.supplyAsync(
+              () -> identityProcessor.process(values, fromIndex, toIndex), executor));
+    }
+    return merge(values.length, rangeSize, ranges);
+  }
+
+  /**
+   * Processes a batch of identity values.
+   *
+   * @param values The identity values to be processed.
+   * @return The result of processing each value.
+   */
+  public BatchResult process(List<String> values) {
+    return process(values.toArray(new String[0]));
+  }
+
+  /**
+   * Processes a stream of identity values.
+   *
+   * @param values The identity values to be processed, in order.
+   * @return The result of processing each value.
+   */
+  public BatchResult process(Stream<String> values) {
+    return process(values.toArray(String[]::new));
+  }
+
+  /**
+   * Gets the number of values of each range.
+   *
+   * @param size The number of values in the batch.
+   * @return The number of values of each range.
+   */
+  private int getRangeSize(int size) {
+    return Math.max(MIN_RANGE_SIZE, (size + parallelism - 1) / parallelism);
+  }
+
+  /**
+   * Waits for the ranges and merges their results in order.
+   *
+   * @param size The number of values in the batch.
+   * @param rangeSize The number of values of each range.
+   * @param ranges The results of the ranges, in order.
+   * @return The result of the batch.
+   */
+  private static BatchResult merge(
+      int size, int rangeSize, List<CompletableFuture<BatchResult>> ranges) {
+    BatchResult result = new BatchResult(size);
+    for (int i = 0; i < ranges.size(); i++) {
+      try {
+        result.add(i * rangeSize, ranges.get(i).join());
+      } catch (CompletionException completionException) {
+        if (completionException.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) completionException.getCause();
+        }
+        throw completionException;
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.processor.impl;
+
+import io.github.afcarrera.identity.ec.config.RUCPrivateConfig;
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+import io.github.afcarrera.identity.ec.processor.AbstractIdentityProcessor;
+
+/**
+ * Processor for handling RUC (Single Taxpayer Registry) values of private companies.
+ *
+ * <p>This class extends {@link AbstractIdentityProcessor} and provides the first element in the
+ * chain of identity handlers specific to RUC private companies.
+ */
+public class RUCPrivateProcessor extends AbstractIdentityProcessor {
+
+  /** Constructor for RUCPrivateProcessor. */
+  public RUCPrivateProcessor() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected IdentityHandler<IdentityDocument> getFirstChainElement() {
+    return RUCPrivateConfig.getInstance().getFirstChainElement();
+  }
+}
@@ -0,0 +1,303 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.validator;
+
+import io.github.afcarrera.identity.ec.annotation.AnyIdentity;
+import io.github.afcarrera.identity.ec.config.CIConfig;
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
+import io.github.afcarrera.identity.ec.config.RUCNaturalConfig;
+import io.github.afcarrera.identity.ec.config.RUCPrivateConfig;
+import io.github.afcarrera.identity.ec.config.RUCPrivatePropertiesConfig;
+import io.github.afcarrera.identity.ec.config.RUCPublicConfig;
+import io.github.afcarrera.identity.ec.config.RUCPublicPropertiesConfig;
+import io.github.afcarrera.identity.ec.domain.DocumentType;
+import io.github.afcarrera.identity.ec.domain.DocumentValidation;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCNaturalProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCPrivateProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCPublicProcessor;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validator for values that may hold any type of identity document. This class implements {@link
+ * ConstraintValidator} to validate CI, RUC natural, RUC private and RUC public values.
+ *
+ * <p>The type of document is detected once from the length of the value and its type digit, such as
+ * the third digit of a RUC, and the value is validated only by the chain of that type. The lengths
+ * and type digits are read from the configuration the chains were built from, and read again after
+ * the configuration is reloaded.
+ */
+public class AnyIdentityValidator implements ConstraintValidator<AnyIdentity, String> {
+
+  /** Processor for CI values. */
+  private static final IdentityProcessor ciProcessor = new CIProcessor();
+
+  /** Processor for RUC natural values. */
+  private static final IdentityProcessor rucNaturalProcessor = new RUCNaturalProcessor();
+
+  /** Processor for RUC private values. */
+  private static final IdentityProcessor rucPrivateProcessor = new RUCPrivateProcessor();
+
+  /** Processor for RUC public values. */
+  private static final IdentityProcessor rucPublicProcessor = new RUCPublicProcessor();
+
+  /** Routing of the values by type, rebuilt when the configuration is reloaded. */
+  private static volatile Routing routing = new Routing();
+
+  /**
+   * Validates the given value as any type of identity document.
+   *
+   * @param value The value to validate.
+   * @param context Context in which the constraint is evaluated.
+   * @return `true` if the value is a valid document of its detected type, otherwise `false`.
+   */
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    return validate(value).isValid();
+  }
+
+  /**
+   * Detects the type of identity document of a value and validates it.
+   *
+   * @param value The value to validate.
+   * @return The detected document type and the reason why the value was rejected, if any.
+   */
+  public DocumentValidation validate(CharSequence value) {
+    if (value == null) {
+      return DocumentValidation.of(DocumentType.UNKNOWN, RejectionReason.INVALID_FORMAT);
+    }
+    Routing current = getRouting();
+    int length = value.length();
+    DocumentType documentType =
+        current.getDocumentType(
+            length,
+            current.rucPrivateTypeIndex >= 0 && current.rucPrivateTypeIndex < length
+                ? value.charAt(current.rucPrivateTypeIndex)
+                : 0,
+            current.rucPublicTypeIndex >= 0 && current.rucPublicTypeIndex < length
+                ? value.charAt(current.rucPublicTypeIndex)
+                : 0);
+    IdentityProcessor identityProcessor = getIdentityProcessor(documentType);
+    return DocumentValidation.of(
+        documentType,
+        identityProcessor == null
+            ? RejectionReason.INVALID_LENGTH
+            : identityProcessor.validate(value));
+  }
+
+  /**
+   * Detects the type of identity document of a value stored as ASCII bytes and validates it,
+   * reading the bytes in place.
+   *
+   * @param value The bytes holding the value.
+   * @param offset The index of the first byte of the value.
+   * @param length The number of bytes of the value.
+   * @return The detected document type and the reason why the value was rejected, if any.
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the byte array.
+   */
+  public DocumentValidation validate(byte[] value, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, value.length);
+    Routing current = getRouting();
+    DocumentType documentType =
+        current.getDocumentType(
+            length,
+            current.rucPrivateTypeIndex >= 0 && current.rucPrivateTypeIndex < length
+                ? (char) (value[offset + current.rucPrivateTypeIndex] & 0xFF)
+                : 0,
+            current.rucPublicTypeIndex >= 0 && current.rucPublicTypeIndex < length
+                ? (char) (value[offset + current.rucPublicTypeIndex] & 0xFF)
+                : 0);
+    IdentityProcessor identityProcessor = getIdentityProcessor(documentType);
+    return DocumentValidation.of(
+        documentType,
+        identityProcessor == null
+            ? RejectionReason.INVALID_LENGTH
+            : identityProcessor.validate(value, offset, length));
+  }
+
+  /**
+   * Detects the type of identity document of each value of a batch and validates it.
+   *
+   * @param values The values to validate, which may hold different types of documents.
+   * @return The detected document type and validity of each value.
+   */
+  public DocumentValidation[] validate(String[] values) {
+    DocumentValidation[] results = new DocumentValidation[values.length];
+    for (int i = 0; i < values.length; i++) {
+      results[i] = validate(values[i]);
+    }
+    return results;
+  }
+
+  /**
+   * Gets the routing of the current configuration, rebuilding it if the configuration was reloaded
+   * since it was built.
+   *
+   * @return The routing of the current configuration.
+   */
+  private static Routing getRouting() {
+    Routing current = routing;
+    if (current.configurationVersion != DocumentValidatorConfig.getConfigurationVersion()) {
+      current = new Routing();
+      routing = current;
+    }
+    return current;
+  }
+
+  /**
+   * Gets the processor validating a type of identity document.
+   *
+   * @param documentType The document type.
+   * @return The processor, or null if the type is unknown.
+   */
+  private static IdentityProcessor getIdentityProcessor(DocumentType documentType) {
+    switch (documentType) {
+      case CI:
+        return ciProcessor;
+      case RUC_NATURAL:
+        return rucNaturalProcessor;
+      case RUC_PRIVATE:
+        return rucPrivateProcessor;
+      case RUC_PUBLIC:
+        return rucPublicProcessor;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Checks whether a character is one of the type digits of a table.
+   *
+   * @param types The table of type digits.
+   * @param c The character to be checked.
+   * @return `true` if the character is a type digit of the table, otherwise `false`.
+   */
+  private static boolean isType(boolean[] types, char c) {
+    return c >= '0' && c <= '9' && types[c - '0'];
+  }
+
+  /**
+   * Builds the table of the type digits of a comma-separated property.
+   *
+   * @param property The comma-separated type digits.
+   * @return The table of type digits, indexed by their value.
+   */
+  private static boolean[] getTypeTable(String property) {
+    boolean[] types = new boolean[10];
+    Set<String> typeSet = IdentityConfigUtil.getStringSetFromProperty(property);
+    for (String type : typeSet) {
+      if (type.length() == 1 && type.charAt(0) >= '0' && type.charAt(0) <= '9') {
+        types[type.charAt(0) - '0'] = true;
+      }
+    }
+    return types;
+  }
+
+  /**
+   * Lengths and type digits used to detect the type of a value, read from the configuration the
+   * chains were built from. Instances are immutable.
+   */
+  private static final class Routing {
+
+    /** Version of the configuration the routing was read from. */
+    private final long configurationVersion;
+
+    /** Number of digits of a CI, taken from the configured format. */
+    private final int ciLength;
+
+    /** Number of digits of a RUC natural value, taken from the configured format. */
+    private final int rucNaturalLength;
+
+    /** Number of digits of a RUC private value, taken from the configured format. */
+    private final int rucPrivateLength;
+
+    /** Number of digits of a RUC public value, taken from the configured format. */
+    private final int rucPublicLength;
+
+    /** Index of the type digit of a RUC private value. */
+    private final int rucPrivateTypeIndex;
+
+    /** Index of the type digit of a RUC public value. */
+    private final int rucPublicTypeIndex;
+
+    /** Table of the type digits of a RUC private value, indexed by their value. */
+    private final boolean[] rucPrivateTypes;
+
+    /** Table of the type digits of a RUC public value, indexed by their value. */
+    private final boolean[] rucPublicTypes;
+
+    /**
+     * Reads the routing from the current configuration.
+     *
+     * <p>The routing is read again if the configuration is reloaded meanwhile, so it never combines
+     * lengths and type digits of different versions.
+     */
+    private Routing() {
+      long version;
+      RUCPrivatePropertiesConfig rucPrivatePropertiesConfig;
+      RUCPublicPropertiesConfig rucPublicPropertiesConfig;
+      int ci;
+      int rucNatural;
+      int rucPrivate;
+      int rucPublic;
+      do {
+        version = DocumentValidatorConfig.getConfigurationVersion();
+        rucPrivatePropertiesConfig = RUCPrivateConfig.getInstance().getPropertiesConfig();
+        rucPublicPropertiesConfig = RUCPublicConfig.getInstance().getPropertiesConfig();
+        ci = CIConfig.getInstance().getLength();
+        rucNatural = RUCNaturalConfig.getInstance().getLength();
+        rucPrivate = RUCPrivateConfig.getInstance().getLength();
+        rucPublic = RUCPublicConfig.getInstance().getLength();
+      } while (version != DocumentValidatorConfig.getConfigurationVersion());
+      configurationVersion = version;
+      ciLength = ci;
+      rucNaturalLength = rucNatural;
+      rucPrivateLength = rucPrivate;
+      rucPublicLength = rucPublic;
+      rucPrivateTypeIndex = Integer.parseInt(rucPrivatePropertiesConfig.getTypeIndex());
+      rucPublicTypeIndex = Integer.parseInt(rucPublicPropertiesConfig.getTypeIndex());
+      rucPrivateTypes = getTypeTable(rucPrivatePropertiesConfig.getTypeList());
+      rucPublicTypes = getTypeTable(rucPublicPropertiesConfig.getTypeList());
+    }
+
+    /**
+     * Detects the type of identity document from the length and the type digits of a value.
+     *
+     * <p>A RUC whose type digit is neither a private nor a public one is a RUC natural.
+     *
+     * @param length The length of the value.
+     * @param rucPrivateType The character at the type digit index of a RUC private value, or zero.
+     * @param rucPublicType The character at the type digit index of a RUC public value, or zero.
+     * @return The detected document type.
+     */
+    private DocumentType getDocumentType(int length, char rucPrivateType, char rucPublicType) {
+      if (length == rucPrivateLength && isType(rucPrivateTypes, rucPrivateType)) {
+        return DocumentType.RUC_PRIVATE;
+      }
+      if (length == rucPublicLength && isType(rucPublicTypes, rucPublicType)) {
+        return DocumentType.RUC_PUBLIC;
+      }
+      if (length == rucNaturalLength) {
+        return DocumentType.RUC_NATURAL;
+      }
+      return length == ciLength ? DocumentType.CI : DocumentType.UNKNOWN;
+    }
+  }
+}
@@ -14,6 +14,8 @@
 package io.github.afcarrera.identity.ec.validator;
 
 import io.github.afcarrera.identity.ec.annotation.CI;
+import io.github.afcarrera.identity.ec.config.CIConfig;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
 import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
 import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
 import jakarta.validation.ConstraintValidator;
@@ -25,6 +27,9 @@ import jakarta.validation.ConstraintValidatorContext;
  */
 public class CIValidator implements ConstraintValidator<CI, String> {
 
+  /** Processor shared by every validator instance and thread. */
+  private static final IdentityProcessor identityProcessor = new CIProcessor();
+
   /**
    * Validates the given CI value.
    *
@@ -34,7 +39,40 @@ public class CIValidator implements ConstraintValidator<CI, String> {
    */
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
-    IdentityProcessor identityProcessor = new CIProcessor();
     return identityProcessor.process(value);
   }
+
+  /**
+   * Validates the given CI value held in any sequence of characters, such as a view over a buffer,
+   * without creating a string.
+   *
+   * @param value The CI value to validate.
+   * @return `true` if the CI value is valid, otherwise `false`.
+   */
+  public boolean isValid(CharSequence value) {
+    return identityProcessor.process(value);
+  }
+
+  /**
+   * Validates the given CI value stored as ASCII bytes, reading them in place.
+   *
+   * @param value The bytes holding the CI value.
+   * @param offset The index of the first byte of the CI value.
+   * @param length The number of bytes of the CI value.
+   * @return `true` if the CI value is valid, otherwise `false`.
+   */
+  public boolean isValid(byte[] value, int offset, int length) {
+    return identityProcessor.process(value, offset, length);
+  }
+
+  /**
+   * Validates the given CI value stored as a number, as if it were zero-padded to its length.
+   *
+   * @param value The CI value to validate.
+   * @return `true` if the CI value is valid, otherwise `false`.
+   * @throws IdentityDocumentException If the configured format is not a plain digit pattern.
+   */
+  public boolean isValid(long value) {
+    return identityProcessor.process(value, CIConfig.getInstance().getLength());
+  }
 }
@@ -14,6 +14,8 @@
 package io.github.afcarrera.identity.ec.validator;
 
 import io.github.afcarrera.identity.ec.annotation.RUCNatural;
+import io.github.afcarrera.identity.ec.config.RUCNaturalConfig;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
 import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
 import io.github.afcarrera.identity.ec.processor.impl.RUCNaturalProcessor;
 import jakarta.validation.ConstraintValidator;
@@ -22,10 +24,14 @@ import jakarta.validation.ConstraintValidatorContext;
 /**
  * Validator for RUC (Single Taxpayer Registry) natural values. This class implements {@link
  * ConstraintValidator} to validate RUCNatural values using a chain of responsibility pattern and a
- * template method.
+ * template method. The format, the establishment number and the embedded CI are checked by a single
+ * chain.
  */
 public class RUCNaturalValidator implements ConstraintValidator<RUCNatural, String> {
 
+  /** Processor shared by every validator instance and thread. */
+  private static final IdentityProcessor identityProcessor = new RUCNaturalProcessor();
+
   /**
    * Validates the given RUCNatural value.
    *
@@ -35,9 +41,41 @@ public class RUCNaturalValidator implements ConstraintValidator<RUCNatural, Stri
    */
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
-    IdentityProcessor identityProcessor = new RUCNaturalProcessor();
-    CIValidator ciValidator = new CIValidator();
-    return identityProcessor.process(value)
-        && ciValidator.isValid(identityProcessor.getIdentityDocument().getValue(), context);
+    return identityProcessor.process(value);
+  }
+
+  /**
+   * Validates the given RUCNatural value held in any sequence of characters, such as a view over a
+   * buffer, without creating a string.
+   *
+   * @param value The RUCNatural value to validate.
+   * @return `true` if the RUCNatural value is valid, otherwise `false`.
+   */
+  public boolean isValid(CharSequence value) {
+    return identityProcessor.process(value);
+  }
+
+  /**
+   * Validates the given RUCNatural value stored as ASCII bytes, reading them in place.
+   *
+   * @param value The bytes holding the RUCNatural value.
+   * @param offset The index of the first byte of the RUCNatural value.
+   * @param length The number of bytes of the RUCNatural value.
+   * @return `true` if the RUCNatural value is valid, otherwise `false`.
+   */
+  public boolean isValid(byte[] value, int offset, int length) {
+    return identityProcessor.process(value, offset, length);
+  }
+
+  /**
+   * Validates the given RUCNatural value stored as a number, as if it were zero-padded to its
+   * length.
+   *
+   * @param value The RUCNatural value to validate.
+   * @return `true` if the RUCNatural value is valid, otherwise `false`.
+   * @throws IdentityDocumentException If the configured format is not a plain digit pattern.
+   */
+  public boolean isValid(long value) {
+    return identityProcessor.process(value, RUCNaturalConfig.getInstance().getLength());
   }
 }
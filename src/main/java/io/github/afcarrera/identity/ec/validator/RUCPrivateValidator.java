@@ -0,0 +1,81 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.afcarrera.identity.ec.validator;
+
+import io.github.afcarrera.identity.ec.annotation.RUCPrivate;
+import io.github.afcarrera.identity.ec.config.RUCPrivateConfig;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCPrivateProcessor;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for RUC (Single Taxpayer Registry) values of private companies. This class implements
+ * {@link ConstraintValidator} to validate RUCPrivate values using a chain of responsibility pattern
+ * and a template method. The format, the type digit, the establishment number and the modulo 11
+ * check digit are checked by a single chain.
+ */
+public class RUCPrivateValidator implements ConstraintValidator<RUCPrivate, String> {
+
+  /** Processor shared by every validator instance and thread. */
+  private static final IdentityProcessor identityProcessor = new RUCPrivateProcessor();
+
+  /**
+   * Validates the given RUCPrivate value.
+   *
+   * @param value The RUCPrivate value to validate.
+   * @param context Context in which the constraint is evaluated.
+   * @return `true` if the RUCPrivate value is valid, otherwise `false`.
+   */
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    return identityProcessor.process(value);
+  }
+
+  /**
+   * Validates the given RUCPrivate value held in any sequence of characters, such as a view over a
+   * buffer, without creating a string.
+   *
+   * @param value The RUCPrivate value to validate.
+   * @return `true` if the RUCPrivate value is valid, otherwise `false`.
+   */
+  public boolean isValid(CharSequence value) {
+    return identityProcessor.process(value);
+  }
+
+  /**
+   * Validates the given RUCPrivate value stored as ASCII bytes, reading them in place.
+   *
+   * @param value The bytes holding the RUCPrivate value.
+   * @param offset The index of the first byte of the RUCPrivate value.
+   * @param length The number of bytes of the RUCPrivate value.
+   * @return `true` if the RUCPrivate value is valid, otherwise `false`.
+   */
+  public boolean isValid(byte[] value, int offset, int length) {
+    return identityProcessor.process(value, offset, length);
+  }
+
+  /**
+   * Validates the given RUCPrivate value stored as a number, as if it were zero-padded to its
+   * length.
+   *
+   * @param value The RUCPrivate value to validate.
+   * @return `true` if the RUCPrivate value is valid, otherwise `false`.
+   * @throws IdentityDocumentException If the configured format is not a plain digit pattern.
+   */
+  public boolean isValid(long value) {
+    return identityProcessor.process(value, RUCPrivateConfig.getInstance().getLength());
+  }
+}
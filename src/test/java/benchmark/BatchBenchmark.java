@@ -0,0 +1,100 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.processor.BatchResult;
+import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark comparing batch processing against calling {@link CIValidator} for each value.
+ *
+ * <p>Scores are reported per validated value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+  /** Number of values in the batch. */
+  private static final int SIZE = 10_000;
+
+  /** CI values with random digits, about one in ten of them valid. */
+  private String[] values;
+
+  /** Validator called once per value. */
+  private CIValidator validator;
+
+  /** Processor handling the whole batch. */
+  private IdentityProcessor processor;
+
+  /** Initializes the configuration and the values. */
+  @Setup
+  public void setup() {
+    DocumentValidatorConfig.init();
+    Random random = new Random(42);
+    values = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = String.format("%02d%08d", 1 + random.nextInt(24), random.nextInt(100_000_000));
+    }
+    validator = new CIValidator();
+    processor = new CIProcessor();
+  }
+
+  /**
+   * Validates each value with the validator.
+   *
+   * @return The number of valid values.
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int validatorLoop() {
+    int validCount = 0;
+    for (String value : values) {
+      if (validator.isValid(value, null)) {
+        validCount++;
+      }
+    }
+    return validCount;
+  }
+
+  /**
+   * Validates the values as a batch.
+   *
+   * @return The result of the batch.
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public BatchResult batch() {
+    return processor.process(values);
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.generator.CIGenerator;
+import io.github.afcarrera.identity.ec.generator.RUCNaturalGenerator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark measuring the throughput of {@link CIGenerator} and {@link RUCNaturalGenerator}.
+ *
+ * <p>Each benchmark generates a single random valid value, so the score is the number of values
+ * generated per microsecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+
+  /** Generator of CI values. */
+  private CIGenerator ciGenerator;
+
+  /** Generator of RUC natural values. */
+  private RUCNaturalGenerator rucNaturalGenerator;
+
+  /** Source of randomness of the generators. */
+  private SplittableRandom random;
+
+  /** Initializes the configuration, the generators and the source of randomness. */
+  @Setup
+  public void setup() {
+    DocumentValidatorConfig.init();
+    ciGenerator = new CIGenerator();
+    rucNaturalGenerator = new RUCNaturalGenerator();
+    random = new SplittableRandom(42);
+  }
+
+  /**
+   * Generates a CI value.
+   *
+   * @return The generated value.
+   */
+  @Benchmark
+  public long ci() {
+    return ciGenerator.next(random);
+  }
+
+  /**
+   * Generates a RUC natural value.
+   *
+   * @return The generated value.
+   */
+  @Benchmark
+  public long rucNatural() {
+    return rucNaturalGenerator.next(random);
+  }
+}
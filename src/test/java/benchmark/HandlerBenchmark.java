@@ -0,0 +1,301 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.impl.CoefficientMultiplicationHandler;
+import io.github.afcarrera.identity.ec.handler.impl.CompiledIdentityHandler;
+import io.github.afcarrera.identity.ec.handler.impl.FirstComparisonHandler;
+import io.github.afcarrera.identity.ec.handler.impl.LastCheckDigitModHandler;
+import io.github.afcarrera.identity.ec.handler.impl.LastDigitHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ListSumHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ListValueAdjusterHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import io.github.afcarrera.identity.ec.handler.impl.RegexHandler;
+import io.github.afcarrera.identity.ec.handler.impl.SecondComparisonHandler;
+import io.github.afcarrera.identity.ec.handler.impl.StringToIntegerHandler;
+import io.github.afcarrera.identity.ec.handler.impl.SubListExtractorHandler;
+import io.github.afcarrera.identity.ec.handler.impl.SubStringExtractorHandler;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark measuring each handler of the CI chain in isolation.
+ *
+ * <p>The handlers are configured as in the default configuration and are not linked, so each
+ * benchmark measures a single handler. The identity document is filled once by running every
+ * handler in order; since each handler writes the same state on every call, the document stays
+ * consistent between calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerBenchmark {
+
+  /** Valid CI value processed by the handlers. */
+  private static final String VALUE = "1710034065";
+
+  /** Valid province codes. */
+  private static final Set<String> PROVINCE_CODES =
+      Set.of(
+          "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "12", "13", "14", "15",
+          "16", "17", "18", "19", "20", "21", "22", "23", "24");
+
+  /** Indexes of the digits taking part in the check digit calculation. */
+  private static final List<Integer> INDEXES = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8);
+
+  /** Coefficients applied to each of the extracted digits. */
+  private static final List<Integer> COEFFICIENTS = List.of(2, 1, 2, 1, 2, 1, 2, 1, 2);
+
+  /** Identity document processed by the handlers. */
+  private IdentityDocument identityDocument;
+
+  /** Handler checking the format. */
+  private RegexHandler regexHandler;
+
+  /** Handler checking the province code. */
+  private ProvinceCodeHandler provinceCodeHandler;
+
+  /** Handler extracting the CI from a longer value. */
+  private SubStringExtractorHandler subStringExtractorHandler;
+
+  /** Handler converting the value to digits. */
+  private StringToIntegerHandler stringToIntegerHandler;
+
+  /** Handler extracting the digits of the check digit calculation. */
+  private SubListExtractorHandler subListExtractorHandler;
+
+  /** Handler multiplying the digits by their coefficients. */
+  private CoefficientMultiplicationHandler coefficientMultiplicationHandler;
+
+  /** Handler adjusting the products. */
+  private ListValueAdjusterHandler listValueAdjusterHandler;
+
+  /** Handler summing the products. */
+  private ListSumHandler listSumHandler;
+
+  /** Handler calculating the last check digit. */
+  private LastCheckDigitModHandler lastCheckDigitModHandler;
+
+  /** Handler extracting the last digit. */
+  private LastDigitHandler lastDigitHandler;
+
+  /** Handler comparing the last check digit against zero. */
+  private FirstComparisonHandler firstComparisonHandler;
+
+  /** Handler comparing the complement of the last check digit against the last digit. */
+  private SecondComparisonHandler secondComparisonHandler;
+
+  /** Handler performing every check in a single pass. */
+  private CompiledIdentityHandler compiledIdentityHandler;
+
+  /** Initializes the handlers and fills the identity document. */
+  @Setup
+  public void setup() {
+    regexHandler = new RegexHandler("^\\d{10}$");
+    provinceCodeHandler = new ProvinceCodeHandler(0, 2, PROVINCE_CODES);
+    subStringExtractorHandler = new SubStringExtractorHandler(0, 10);
+    stringToIntegerHandler = new StringToIntegerHandler();
+    subListExtractorHandler = new SubListExtractorHandler(INDEXES);
+    coefficientMultiplicationHandler = new CoefficientMultiplicationHandler(COEFFICIENTS);
+    listValueAdjusterHandler = new ListValueAdjusterHandler(true, 10, 9);
+    listSumHandler = new ListSumHandler();
+    lastCheckDigitModHandler = new LastCheckDigitModHandler(10, 10);
+    lastDigitHandler = new LastDigitHandler(9);
+    firstComparisonHandler = new FirstComparisonHandler(0);
+    secondComparisonHandler = new SecondComparisonHandler(10);
+    compiledIdentityHandler =
+        new CompiledIdentityHandler(
+            "^\\d{10}$",
+            0,
+            2,
+            PROVINCE_CODES,
+            INDEXES,
+            COEFFICIENTS,
+            true,
+            10,
+            9,
+            10,
+            10,
+            9,
+            0,
+            10);
+    identityDocument = new IdentityDocument();
+    identityDocument.setValue(VALUE);
+    stringToIntegerHandler.process(identityDocument);
+    subListExtractorHandler.process(identityDocument);
+    coefficientMultiplicationHandler.process(identityDocument);
+    listValueAdjusterHandler.process(identityDocument);
+    listSumHandler.process(identityDocument);
+    lastCheckDigitModHandler.process(identityDocument);
+    lastDigitHandler.process(identityDocument);
+  }
+
+  /**
+   * Runs the {@link RegexHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument regex() {
+    regexHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link ProvinceCodeHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument provinceCode() {
+    provinceCodeHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link SubStringExtractorHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument subStringExtractor() {
+    subStringExtractorHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link StringToIntegerHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument stringToInteger() {
+    stringToIntegerHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link SubListExtractorHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument subListExtractor() {
+    subListExtractorHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link CoefficientMultiplicationHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument coefficientMultiplication() {
+    coefficientMultiplicationHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link ListValueAdjusterHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument listValueAdjuster() {
+    listValueAdjusterHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link ListSumHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument listSum() {
+    listSumHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link LastCheckDigitModHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument lastCheckDigitMod() {
+    lastCheckDigitModHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link LastDigitHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument lastDigit() {
+    lastDigitHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link FirstComparisonHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument firstComparison() {
+    firstComparisonHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link SecondComparisonHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument secondComparison() {
+    secondComparisonHandler.process(identityDocument);
+    return identityDocument;
+  }
+
+  /**
+   * Runs the {@link CompiledIdentityHandler}.
+   *
+   * @return The processed identity document.
+   */
+  @Benchmark
+  public IdentityDocument compiledIdentity() {
+    compiledIdentityHandler.process(identityDocument);
+    return identityDocument;
+  }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.impl.RegexHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark comparing the cost of the format check of the {@link RegexHandler}.
+ *
+ * <p>Measures compiling the regular expression on every call, as the handler used to do, against
+ * the precompiled pattern and the plain digit fast path, for a string and for a value read from a
+ * byte array eight bytes at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexHandlerBenchmark {
+
+  /** Regular expression used to validate a CI. */
+  private static final String REGEX = "^\\d{10}$";
+
+  /** Handler using the plain digit fast path. */
+  private RegexHandler digitHandler;
+
+  /** Handler using a precompiled pattern. */
+  private RegexHandler patternHandler;
+
+  /** Identity document holding a valid CI. */
+  private IdentityDocument identityDocument;
+
+  /** Identity document holding a valid CI as ASCII bytes. */
+  private IdentityDocument bytesDocument;
+
+  /** Initializes the handlers and the identity document. */
+  @Setup
+  public void setup() {
+    digitHandler = new RegexHandler(REGEX);
+    patternHandler = new RegexHandler("^[0-9]{10}$");
+    identityDocument = new IdentityDocument();
+    identityDocument.setValue("1710034065");
+    bytesDocument = new IdentityDocument();
+    bytesDocument.setValue("1710034065".getBytes(StandardCharsets.US_ASCII), 0, 10);
+  }
+
+  /**
+   * Compiles the regular expression on every call.
+   *
+   * @return `true` if the value matches.
+   */
+  @Benchmark
+  public boolean perCallCompile() {
+    return Pattern.compile(REGEX).matcher(identityDocument.getValue()).matches();
+  }
+
+  /** Matches the value against a precompiled pattern. */
+  @Benchmark
+  public void precompiledPattern() {
+    patternHandler.process(identityDocument);
+  }
+
+  /** Checks the value with the plain digit fast path. */
+  @Benchmark
+  public void digitFastPath() {
+    digitHandler.process(identityDocument);
+  }
+
+  /** Checks the value read from a byte array with the plain digit fast path. */
+  @Benchmark
+  public void digitFastPathBytes() {
+    digitHandler.process(bytesDocument);
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import io.github.afcarrera.identity.ec.validator.RUCNaturalValidator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark measuring the throughput and latency of {@link CIValidator} and {@link
+ * RUCNaturalValidator}.
+ *
+ * <p>Each validator is measured with a valid value and with values rejected at each stage of the
+ * chain, from the format check to the check digit comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+  /** CI values by kind of input. */
+  private static final Map<String, String> CI_VALUES =
+      Map.of(
+          "valid", "1710034065",
+          "wrongLength", "171003406",
+          "nonNumeric", "17100340a5",
+          "invalidProvince", "9910034065",
+          "invalidCheckDigit", "1710034066");
+
+  /** Kind of input validated. */
+  @Param({"valid", "wrongLength", "nonNumeric", "invalidProvince", "invalidCheckDigit"})
+  public String input;
+
+  /** CI value of the kind of input. */
+  private String ci;
+
+  /** RUC natural value of the kind of input. */
+  private String rucNatural;
+
+  /** Validator for CI values. */
+  private CIValidator ciValidator;
+
+  /** Validator for RUC natural values. */
+  private RUCNaturalValidator rucNaturalValidator;
+
+  /** Initializes the configuration, the validators and the values. */
+  @Setup
+  public void setup() {
+    DocumentValidatorConfig.init();
+    ciValidator = new CIValidator();
+    rucNaturalValidator = new RUCNaturalValidator();
+    ci = CI_VALUES.get(input);
+    rucNatural = ci + "001";
+  }
+
+  /**
+   * Validates the CI value.
+   *
+   * @return `true` if the value is valid.
+   */
+  @Benchmark
+  public boolean ciValidator() {
+    return ciValidator.isValid(ci, null);
+  }
+
+  /**
+   * Validates the RUC natural value.
+   *
+   * @return `true` if the value is valid.
+   */
+  @Benchmark
+  public boolean rucNaturalValidator() {
+    return rucNaturalValidator.isValid(rucNatural, null);
+  }
+}
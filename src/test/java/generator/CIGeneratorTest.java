@@ -0,0 +1,104 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.generator.CIGenerator;
+import io.github.afcarrera.identity.ec.generator.RUCNaturalGenerator;
+import io.github.afcarrera.identity.ec.processor.BatchResult;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import io.github.afcarrera.identity.ec.validator.RUCNaturalValidator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link CIGenerator} and {@link RUCNaturalGenerator} classes. */
+public class CIGeneratorTest {
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /**
+   * Tests the completion of CI values missing their check digit.
+   *
+   * @param digits The CI value without its check digit.
+   * @param expected The expected CI value.
+   */
+  @ParameterizedTest
+  @CsvSource({"171003406,1710034065", "091234567,0912345675", "222222222,2222222222"})
+  void testComplete(String digits, String expected) {
+    // Complete the value as digits and as a number
+    CIGenerator generator = new CIGenerator();
+
+    // Assert that both forms get the expected check digit
+    assertEquals(expected, generator.complete(digits));
+    assertEquals(Long.parseLong(expected), generator.complete(Long.parseLong(digits)));
+    assertEquals(expected.charAt(9) - '0', generator.getCheckDigit(expected));
+  }
+
+  /** Tests that malformed values cannot be completed. */
+  @Test
+  void testCompleteInvalid() {
+    // Complete values of the wrong length or with non-digits
+    CIGenerator generator = new CIGenerator();
+
+    // Assert that they are rejected
+    assertThrows(IdentityDocumentException.class, () -> generator.complete("17100340"));
+    assertThrows(IdentityDocumentException.class, () -> generator.complete("17100340a"));
+    assertThrows(IdentityDocumentException.class, () -> generator.complete(1_000_000_000L));
+  }
+
+  /** Tests that generated values are valid and reproducible. */
+  @Test
+  void testGenerate() {
+    // Generate CI and RUC natural values
+    CIGenerator ciGenerator = new CIGenerator();
+    RUCNaturalGenerator rucNaturalGenerator = new RUCNaturalGenerator();
+    CIValidator ciValidator = new CIValidator();
+    RUCNaturalValidator rucNaturalValidator = new RUCNaturalValidator();
+    long[] cis = ciGenerator.generate(10_000, 42);
+    long[] rucs = rucNaturalGenerator.generate(10_000, 42);
+
+    // Assert that every value passes its validator
+    for (int i = 0; i < cis.length; i++) {
+      assertTrue(ciValidator.isValid(cis[i]), Long.toString(cis[i]));
+      assertTrue(rucNaturalValidator.isValid(rucs[i]), Long.toString(rucs[i]));
+      assertEquals(cis[i] * 1000 + 1, rucs[i]);
+    }
+    assertEquals(cis[0], ciGenerator.generate(1, 42)[0]);
+    assertEquals("1710034065001", rucNaturalGenerator.complete("171003406"));
+  }
+
+  /** Tests that packed generated values are valid in a batch. */
+  @Test
+  void testGeneratePacked() {
+    // Generate packed CI values
+    CIGenerator generator = new CIGenerator();
+    byte[] packed = generator.generatePacked(10_000, 7);
+
+    // Assert that the whole batch is valid
+    BatchResult result = new CIProcessor().process(packed, generator.getLength());
+    assertEquals(10_000, result.getValidCount());
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.impl.CompiledIdentityHandler;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link CompiledIdentityHandler} class. */
+public class CompiledIdentityHandlerTest {
+
+  /** Instance of the CompiledIdentityHandler to be tested. */
+  CompiledIdentityHandler handler;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Sets up the test environment with the CI rules. */
+  @BeforeEach
+  void setup() {
+    handler =
+        new CompiledIdentityHandler(
+            "^\\d{10}$",
+            0,
+            2,
+            IdentityConfigUtil.getStringSetFromProperty(
+                "01,02,03,04,05,06,07,08,09,10,11,12,13,14,15,16,17,18,19,20,21,22,23,24"),
+            IdentityConfigUtil.getIntegerListFromProperty("0,1,2,3,4,5,6,7,8"),
+            IdentityConfigUtil.getIntegerListFromProperty("2,1,2,1,2,1,2,1,2"),
+            true,
+            10,
+            9,
+            10,
+            10,
+            9,
+            0,
+            10);
+  }
+
+  /**
+   * Tests the handler with several invalid CI values.
+   *
+   * @param invalidValue The invalid CI value to be tested.
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {"1", "9999999999", "1717430101", "2222222223", "22222222a2"})
+  void testIsInvalid(String invalidValue) {
+    // Process the CI value
+    IdentityDocument document = new IdentityDocument();
+    document.setValue(invalidValue);
+    handler.process(document);
+
+    // Assert that the value is rejected
+    assertNotNull(document.getRejection());
+  }
+
+  /** Tests that the handler agrees with the handler chain on generated CI values. */
+  @Test
+  void testMatchesChain() {
+    Random random = new Random(42);
+    CIValidator validator = new CIValidator();
+    for (int i = 0; i < 2000; i++) {
+      // A CI value with a random prefix and each possible check digit
+      String prefix = String.format("%09d", random.nextInt(1_000_000_000));
+      for (char lastDigit = '0'; lastDigit <= '9'; lastDigit++) {
+        String value = prefix + lastDigit;
+
+        // Assert that the validations give the same result, also reading the value from bytes
+        assertEquals(validator.isValid(value, null), isValid(value), value);
+        assertEquals(isValid(value), isValidBytes(value), value);
+      }
+    }
+  }
+
+  /**
+   * Validates a value with the compiled handler.
+   *
+   * @param value The value to be validated.
+   * @return `true` if the value is valid, otherwise `false`.
+   */
+  private boolean isValid(String value) {
+    IdentityDocument document = new IdentityDocument();
+    document.setValue(value);
+    handler.process(document);
+    return document.getRejection() == null;
+  }
+
+  /**
+   * Validates a value stored as ASCII bytes with the compiled handler.
+   *
+   * @param value The value to be validated.
+   * @return `true` if the value is valid, otherwise `false`.
+   */
+  private boolean isValidBytes(String value) {
+    IdentityDocument document = new IdentityDocument();
+    document.setValue(("x" + value).getBytes(StandardCharsets.US_ASCII), 1, value.length());
+    handler.process(document);
+    return document.getRejection() == null;
+  }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.impl.RegexHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the digit check of the {@link RegexHandler}, comparing values read from a byte
+ * array eight bytes at a time with the same values read as strings.
+ */
+public class DigitCheckTest {
+
+  /** Characters of the generated values, mostly digits and the bytes around them. */
+  private static final String CHARACTERS = "0123456789012345678901234567890123456789/:a ";
+
+  /** Tests the digit check of values of every length up to 20, with one non-digit at each index. */
+  @Test
+  void testEveryIndex() {
+    for (int length = 1; length <= 20; length++) {
+      RegexHandler handler = new RegexHandler("^\\d{" + length + "}$");
+      String digits = "12345678901234567890".substring(0, length);
+
+      // Assert that the digits are accepted from a buffer
+      assertNull(process(handler, digits, 3).getRejection(), digits);
+      for (int i = 0; i < length; i++) {
+        for (char c : new char[] {'/', ':', 'a', (char) 0xB0, (char) 0xFA}) {
+          // Assert that a single non-digit is rejected wherever it is
+          String value = digits.substring(0, i) + c + digits.substring(i + 1);
+          assertNotNull(process(handler, value, 3).getRejection(), value);
+        }
+      }
+    }
+  }
+
+  /** Tests that the digit check gives the same result for byte arrays and strings. */
+  @Test
+  void testDigitCheck() {
+    Random random = new Random(42);
+    RegexHandler handler = new RegexHandler("^\\d{13}$");
+    for (int i = 0; i < 5000; i++) {
+      // A value of 13 characters, valid about half of the time
+      String value =
+          random.nextBoolean() ? randomValue(random, 13) : String.valueOf(randomDigits(random));
+      int offset = random.nextInt(8);
+
+      // Check the value as a string and from a buffer
+      IdentityDocument expected = new IdentityDocument();
+      expected.setValue(value);
+      handler.process(expected);
+      IdentityDocument actual = process(handler, value, offset);
+
+      // Assert that both give the same result
+      assertEquals(expected.getRejection(), actual.getRejection(), value);
+    }
+  }
+
+  /**
+   * Processes a value stored in a buffer with a handler.
+   *
+   * @param handler The handler processing the value.
+   * @param value The value to be processed.
+   * @param offset The index of the first character of the value in the buffer.
+   * @return The processed identity document.
+   */
+  private static IdentityDocument process(RegexHandler handler, String value, int offset) {
+    IdentityDocument document = new IdentityDocument();
+    document.setValue(toBuffer(value, offset), offset, value.length());
+    handler.process(document);
+    return document;
+  }
+
+  /**
+   * Generates a random value from {@link #CHARACTERS}.
+   *
+   * @param random The random number generator.
+   * @param length The length of the value.
+   * @return The generated value.
+   */
+  private static String randomValue(Random random, int length) {
+    StringBuilder value = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      value.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+    }
+    return value.toString();
+  }
+
+  /**
+   * Generates a random number of 13 digits.
+   *
+   * @param random The random number generator.
+   * @return The generated number.
+   */
+  private static long randomDigits(Random random) {
+    return 1_000_000_000_000L + Math.floorMod(random.nextLong(), 9_000_000_000_000L);
+  }
+
+  /**
+   * Stores a value in a buffer surrounded by other characters.
+   *
+   * @param value The value to be stored.
+   * @param offset The index of the first character of the value in the buffer.
+   * @return The buffer.
+   */
+  private static byte[] toBuffer(String value, int offset) {
+    String padding = "x".repeat(offset);
+    return (padding + value + "xxxxxxxx").getBytes(StandardCharsets.ISO_8859_1);
+  }
+}
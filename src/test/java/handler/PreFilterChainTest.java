@@ -0,0 +1,68 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.afcarrera.identity.ec.config.IdentityConfigUtil;
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.handler.IdentityHandler;
+import io.github.afcarrera.identity.ec.handler.impl.LengthHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import io.github.afcarrera.identity.ec.handler.impl.RegexHandler;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the pre-filter stage linked by {@link IdentityConfigUtil}. */
+public class PreFilterChainTest {
+
+  /** Tests that the pre-filters are ordered by their declared cost. */
+  @Test
+  void testCheapestFirst() {
+    // Link the pre-filters from the most to the least expensive
+    IdentityHandler<IdentityDocument> chain =
+        IdentityConfigUtil.linkChain(
+            List.of(
+                new RegexHandler("^[0-9]{10}$"),
+                new ProvinceCodeHandler(0, 2, Set.of("17")),
+                new LengthHandler(10)),
+            List.of());
+
+    // Assert that each value is rejected by the cheapest failing check
+    assertEquals(LengthHandler.class, getRejectionSource(chain, "9"));
+    assertEquals(ProvinceCodeHandler.class, getRejectionSource(chain, "99999999a9"));
+    assertEquals(RegexHandler.class, getRejectionSource(chain, "17999999a9"));
+    assertNull(getRejectionSource(chain, "1799999999"));
+  }
+
+  /**
+   * Processes a value with a chain and gets the class of the handler that rejected it.
+   *
+   * @param chain The first handler of the chain.
+   * @param value The value to be processed.
+   * @return The class of the rejecting handler, or null if the value is accepted.
+   */
+  private static Class<?> getRejectionSource(
+      IdentityHandler<IdentityDocument> chain, String value) {
+    IdentityDocument document = new IdentityDocument();
+    document.setValue(value);
+    chain.process(document);
+    return document.getRejection() == null
+        ? null
+        : IdentityRejectedException.getSourceClass(document.getRejection());
+  }
+}
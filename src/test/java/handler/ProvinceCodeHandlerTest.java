@@ -0,0 +1,81 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.afcarrera.identity.ec.domain.IdentityDocument;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the {@link ProvinceCodeHandler} class. */
+public class ProvinceCodeHandlerTest {
+
+  /** Tests the handler with numeric province codes. */
+  @Test
+  void testNumericCodes() {
+    // Create a handler with numeric codes
+    ProvinceCodeHandler handler = new ProvinceCodeHandler(0, 2, Set.of("01", "17", "24"));
+
+    // Assert the outcome of several values
+    assertNull(process(handler, "1710034065").getRejection());
+    assertNotNull(process(handler, "2510034065").getRejection());
+    assertNotNull(process(handler, "1a10034065").getRejection());
+    assertNotNull(process(handler, "1").getRejection());
+  }
+
+  /** Tests the handler with codes that are not numeric or too wide for a table. */
+  @Test
+  void testSortedCodes() {
+    // Create handlers with alphanumeric and wide codes
+    ProvinceCodeHandler alphanumeric = new ProvinceCodeHandler(1, 3, Set.of("AB", "P1", "ZZ"));
+    ProvinceCodeHandler wide = new ProvinceCodeHandler(0, 5, Set.of("12345", "54321"));
+
+    // Assert the outcome of several values
+    assertNull(process(alphanumeric, "xP1").getRejection());
+    assertNull(process(alphanumeric, "xZZy").getRejection());
+    assertNotNull(process(alphanumeric, "xP2").getRejection());
+    assertNull(process(wide, "543210").getRejection());
+    assertNotNull(process(wide, "12344").getRejection());
+  }
+
+  /** Tests that the cost of the handler follows the width of the code and the lookup mode. */
+  @Test
+  void testCost() {
+    // Assert the cost of a table lookup, which reads each character of the code once
+    assertEquals(2, new ProvinceCodeHandler(0, 2, Set.of("01", "17", "24")).getCost());
+    assertEquals(3, new ProvinceCodeHandler(0, 3, Set.of("001", "017")).getCost());
+
+    // Assert the cost of a binary search, which reads the code once per comparison
+    assertEquals(4, new ProvinceCodeHandler(1, 3, Set.of("AB", "P1", "ZZ")).getCost());
+    assertEquals(10, new ProvinceCodeHandler(0, 5, Set.of("12345", "54321")).getCost());
+  }
+
+  /**
+   * Processes a value with a handler.
+   *
+   * @param handler The handler processing the value.
+   * @param value The value to be processed.
+   * @return The processed identity document.
+   */
+  private static IdentityDocument process(ProvinceCodeHandler handler, String value) {
+    IdentityDocument document = new IdentityDocument();
+    document.setValue(value);
+    handler.process(document);
+    return document;
+  }
+}
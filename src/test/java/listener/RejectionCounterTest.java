@@ -0,0 +1,98 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.handler.impl.FirstComparisonHandler;
+import io.github.afcarrera.identity.ec.handler.impl.LengthHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import io.github.afcarrera.identity.ec.handler.impl.RegexHandler;
+import io.github.afcarrera.identity.ec.handler.impl.SecondComparisonHandler;
+import io.github.afcarrera.identity.ec.listener.RejectionCounter;
+import io.github.afcarrera.identity.ec.processor.CachingIdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link RejectionCounter} class. */
+public class RejectionCounterTest {
+
+  /** Instance of the RejectionCounter to be tested. */
+  RejectionCounter counter;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Sets up the test environment by registering the RejectionCounter instance. */
+  @BeforeEach
+  void setup() {
+    counter = new RejectionCounter();
+    DocumentValidatorConfig.setRejectionListener(counter);
+  }
+
+  /** Removes the RejectionCounter instance after each test. */
+  @AfterEach
+  void tearDown() {
+    DocumentValidatorConfig.setRejectionListener(null);
+  }
+
+  /** Tests that rejections are counted per rejecting handler. */
+  @Test
+  void testCountsPerHandler() {
+    // Validate several valid and invalid CI values
+    CIValidator validator = new CIValidator();
+    for (String value :
+        new String[] {
+          "1", "12", "17100340a5", "9999999999", "1717430101", "2222222223", "2222222222"
+        }) {
+      validator.isValid(value, null);
+    }
+
+    // Assert that each rejection is counted under its handler
+    assertEquals(2, counter.getCount(LengthHandler.class));
+    assertEquals(1, counter.getCount(RegexHandler.class));
+    assertEquals(1, counter.getCount(ProvinceCodeHandler.class));
+    assertEquals(1, counter.getCount(FirstComparisonHandler.class));
+    assertEquals(1, counter.getCount(SecondComparisonHandler.class));
+    assertEquals(5, counter.getCounts().size());
+  }
+
+  /** Tests that the rejections found in the cache of a caching processor are counted too. */
+  @Test
+  void testCountsCacheHits() {
+    // Validate the same invalid CI value repeatedly through a caching processor
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 1024);
+    byte[] buffer = "9999999999".getBytes(StandardCharsets.US_ASCII);
+    for (int i = 0; i < 3; i++) {
+      processor.process("9999999999");
+      processor.validate(buffer, 0, buffer.length);
+      processor.process(9_999_999_999L, 10);
+    }
+
+    // Assert that every rejection is counted, whether it was found in the cache or not
+    assertEquals(8, processor.getHitCount());
+    assertEquals(9, counter.getCount(ProvinceCodeHandler.class));
+    assertEquals(1, counter.getCounts().size());
+  }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.config.CIConfig;
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.metrics.HandlerMetrics;
+import io.github.afcarrera.identity.ec.metrics.LatencyHistogram;
+import io.github.afcarrera.identity.ec.metrics.MetricsRegistry;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Properties;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import validator.GlobalSetup;
+
+/** Unit tests for the per-handler metrics. */
+public class HandlerMetricsTest {
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Restores the classpath configuration after each test. */
+  @AfterEach
+  void tearDown() {
+    DocumentValidatorConfig.reload(new Properties());
+  }
+
+  /** Tests the percentiles of the latency histogram. */
+  @Test
+  void testLatencyHistogram() {
+    // Record latencies from 1 to 10000 ns
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 10_000; i++) {
+      histogram.record(i);
+    }
+
+    // Assert that the percentiles are within the precision of the histogram
+    assertEquals(10_000, histogram.getCount());
+    assertEquals(5_000.5, histogram.getMean());
+    assertEquals(10_000, histogram.getMax());
+    assertEquals(5_000, histogram.getValueAtPercentile(50), 5_000 / 64.0);
+    assertEquals(9_900, histogram.getValueAtPercentile(99), 9_900 / 64.0);
+    assertEquals(100, histogram.getValueAtPercentile(1));
+  }
+
+  /** Tests that latencies recorded concurrently by several threads are all counted. */
+  @Test
+  void testLatencyHistogramConcurrent() throws Exception {
+    // Record 100000 latencies from each of four threads
+    LatencyHistogram histogram = new LatencyHistogram();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] =
+          new Thread(
+              () -> {
+                for (int i = 1; i <= 100_000; i++) {
+                  histogram.record(i % 1_000);
+                }
+              });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // Assert that no latency was lost
+    assertEquals(400_000, histogram.getCount());
+    assertEquals(999, histogram.getMax());
+  }
+
+  /** Tests that the instrumented chain counts invocations and rejections per handler. */
+  @Test
+  void testInstrumentedChain() throws Exception {
+    // Reload the configuration with the CI metrics enabled
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ci.metrics", "true");
+    DocumentValidatorConfig.reload(properties);
+
+    // Validate a valid CI, a CI of the wrong length and a CI of an invalid province
+    CIValidator validator = new CIValidator();
+    assertTrue(validator.isValid("1710034065", null));
+    validator.isValid("1", null);
+    validator.isValid("9999999999", null);
+
+    // Assert that each handler counted the values it processed and rejected
+    List<HandlerMetrics> handlerMetrics = MetricsRegistry.getHandlerMetrics(CIConfig.CHAIN_NAME);
+    assertEquals("LengthHandler", handlerMetrics.get(0).getHandlerName());
+    assertEquals(3, handlerMetrics.get(0).getInvocationCount());
+    assertEquals(1, handlerMetrics.get(0).getRejectionCount());
+    assertEquals("RegexHandler", handlerMetrics.get(1).getHandlerName());
+    assertEquals(2, handlerMetrics.get(1).getInvocationCount());
+    assertEquals(0, handlerMetrics.get(1).getRejectionCount());
+    assertEquals("ProvinceCodeHandler", handlerMetrics.get(2).getHandlerName());
+    assertEquals(2, handlerMetrics.get(2).getInvocationCount());
+    assertEquals(1, handlerMetrics.get(2).getRejectionCount());
+    HandlerMetrics last = handlerMetrics.get(handlerMetrics.size() - 1);
+    assertEquals(1, last.getInvocationCount());
+    assertEquals(1, last.getLatencyHistogram().getCount());
+
+    // Assert that the metrics are exposed through JMX
+    ObjectName name =
+        new ObjectName(
+            "io.github.afcarrera.identity.ec:type=HandlerMetrics,chain=CI,position=0,"
+                + "handler=LengthHandler");
+    assertEquals(
+        3L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "InvocationCount"));
+    assertEquals(0, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Position"));
+
+    // Assert that disabling the metrics removes them
+    DocumentValidatorConfig.reload(new Properties());
+    assertTrue(MetricsRegistry.getHandlerMetrics(CIConfig.CHAIN_NAME).isEmpty());
+    assertTrue(ManagementFactory.getPlatformMBeanServer().queryNames(name, null).isEmpty());
+  }
+
+  /** Tests that the instrumented chain accepts a CI whose check digit is zero. */
+  @Test
+  void testInstrumentedChainCheckDigitZero() {
+    // Assert that the CI with check digit zero is valid without metrics
+    CIValidator validator = new CIValidator();
+    assertTrue(validator.isValid("1700000050", null));
+
+    // Reload the configuration with the CI metrics enabled
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ci.metrics", "true");
+    DocumentValidatorConfig.reload(properties);
+
+    // Assert that the CI with check digit zero is still valid
+    validator = new CIValidator();
+    assertTrue(validator.isValid("1700000050", null));
+
+    // Assert that no handler counted a rejection
+    for (HandlerMetrics metrics : MetricsRegistry.getHandlerMetrics(CIConfig.CHAIN_NAME)) {
+      assertEquals(0, metrics.getRejectionCount(), metrics.getHandlerName());
+    }
+  }
+}
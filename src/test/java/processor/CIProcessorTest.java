@@ -0,0 +1,146 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.handler.impl.FirstComparisonHandler;
+import io.github.afcarrera.identity.ec.handler.impl.LengthHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import io.github.afcarrera.identity.ec.handler.impl.SecondComparisonHandler;
+import io.github.afcarrera.identity.ec.processor.BatchResult;
+import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link CIProcessor} class. */
+public class CIProcessorTest {
+
+  /** CI values mixing valid and invalid ones. */
+  private static final String[] VALUES = {
+    "2222222222", "1", "9999999999", "1710034065", "1717430101", "2222222223"
+  };
+
+  /** Expected outcome of each of the CI values. */
+  private static final boolean[] EXPECTED = {true, false, false, true, false, false};
+
+  /** Instance of the CIProcessor to be tested. */
+  IdentityProcessor processor;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Sets up the test environment by initializing the CIProcessor instance. */
+  @BeforeEach
+  void setup() {
+    processor = new CIProcessor();
+  }
+
+  /** Tests the batch process method with an array of values. */
+  @Test
+  void testProcessArray() {
+    // Process the CI values
+    BatchResult result = processor.process(VALUES);
+
+    // Assert the outcome of each value and the rejections of each handler
+    assertBatchResult(result);
+    assertEquals(1, result.getRejectionCount(LengthHandler.class));
+    assertEquals(1, result.getRejectionCount(ProvinceCodeHandler.class));
+    assertEquals(1, result.getRejectionCount(FirstComparisonHandler.class));
+    assertEquals(1, result.getRejectionCount(SecondComparisonHandler.class));
+    assertEquals(2, result.getRejectionCount(RejectionReason.NONE));
+    assertEquals(1, result.getRejectionCount(RejectionReason.INVALID_LENGTH));
+    assertEquals(1, result.getRejectionCount(RejectionReason.INVALID_PROVINCE));
+    assertEquals(1, result.getRejectionCount(RejectionReason.FIRST_COMPARISON_MISMATCH));
+    assertEquals(1, result.getRejectionCount(RejectionReason.SECOND_COMPARISON_MISMATCH));
+    assertEquals(0, result.getRejectionCount(RejectionReason.INVALID_FORMAT));
+  }
+
+  /** Tests the validate method, which reports the reason of each rejection. */
+  @Test
+  void testValidate() {
+    // Validate values failing each check
+    byte[] buffer = "x1710034065x".getBytes(StandardCharsets.US_ASCII);
+
+    // Assert the reason of each rejection, and its code
+    assertSame(RejectionReason.NONE, processor.validate("1710034065"));
+    assertSame(RejectionReason.NONE, processor.validate(buffer, 1, 10));
+    assertSame(RejectionReason.INVALID_LENGTH, processor.validate("1"));
+    assertSame(RejectionReason.INVALID_FORMAT, processor.validate("17100340a5"));
+    assertSame(RejectionReason.INVALID_PROVINCE, processor.validate("9999999999"));
+    assertSame(RejectionReason.FIRST_COMPARISON_MISMATCH, processor.validate("1717430101"));
+    assertSame(RejectionReason.INVALID_FORMAT, processor.validate(buffer, 0, 10));
+    assertSame(RejectionReason.INVALID_FORMAT, processor.validate("1A10034065"));
+    assertSame(RejectionReason.SECOND_COMPARISON_MISMATCH, processor.validate("2222222223"));
+    assertSame(
+        RejectionReason.INVALID_PROVINCE,
+        RejectionReason.fromCode(RejectionReason.INVALID_PROVINCE.getCode()));
+  }
+
+  /** Tests the batch process method with a list of values. */
+  @Test
+  void testProcessList() {
+    // Process the CI values
+    BatchResult result = processor.process(List.of(VALUES));
+
+    // Assert the outcome of each value
+    assertBatchResult(result);
+  }
+
+  /** Tests the batch process method with packed fixed-width values. */
+  @Test
+  void testProcessPacked() {
+    // Pack the CI values of ten characters
+    byte[] packed = "2222222222999999999917100340651717430101".getBytes(StandardCharsets.US_ASCII);
+
+    // Process the CI values
+    BatchResult result = processor.process(packed, 10);
+
+    // Assert the outcome of each value
+    assertEquals(4, result.size());
+    assertTrue(result.isValid(0));
+    assertFalse(result.isValid(1));
+    assertTrue(result.isValid(2));
+    assertFalse(result.isValid(3));
+    assertThrows(IdentityDocumentException.class, () -> processor.process(packed, 3));
+  }
+
+  /**
+   * Asserts the outcome of processing {@link #VALUES}.
+   *
+   * @param result The result of processing the values.
+   */
+  private static void assertBatchResult(BatchResult result) {
+    assertEquals(VALUES.length, result.size());
+    assertEquals(2, result.getValidCount());
+    assertEquals(4, result.getInvalidCount());
+    for (int i = 0; i < VALUES.length; i++) {
+      assertEquals(EXPECTED[i], result.isValid(i), VALUES[i]);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.exception.IdentityRejectedException;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import io.github.afcarrera.identity.ec.processor.BatchResult;
+import io.github.afcarrera.identity.ec.processor.CachingIdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link CachingIdentityProcessor} class. */
+public class CachingIdentityProcessorTest {
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Tests that repeated values are served from the cache. */
+  @Test
+  void testHitsAndMisses() {
+    // Process valid and invalid values twice
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 1024);
+    for (int i = 0; i < 2; i++) {
+      assertTrue(processor.process("1710034065"));
+      assertFalse(processor.process("9999999999"));
+      assertFalse(processor.process("17100340a5"));
+    }
+
+    // Assert that the second digit values are hits and the non-digit value is not cached
+    assertEquals(2, processor.getHitCount());
+    assertEquals(2, processor.getMissCount());
+  }
+
+  /** Tests that numeric values share the cache with their zero-padded digits. */
+  @Test
+  void testNumeric() {
+    // Process a CI as digits and then as a number
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 1024);
+    assertTrue(processor.process("0912345675"));
+    assertTrue(processor.process(912345675L, 10));
+
+    // Assert that the number was found in the cache
+    assertEquals(1, processor.getHitCount());
+    assertFalse(processor.process(-912345675L, 10));
+  }
+
+  /** Tests that values read from a buffer share the cache with the same characters. */
+  @Test
+  void testBytes() {
+    // Process a CI as a string and then from a buffer
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 1024);
+    assertTrue(processor.process("1710034065"));
+    assertTrue(processor.process("x1710034065x".getBytes(StandardCharsets.US_ASCII), 1, 10));
+
+    // Assert that the buffer value was found in the cache
+    assertEquals(1, processor.getHitCount());
+  }
+
+  /** Tests that batches keep the rejections of the cached values. */
+  @Test
+  void testBatch() {
+    // Process a batch with a repeated invalid value
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 1024);
+    BatchResult result = processor.process(new String[] {"9999999999", "9999999999", "2222222222"});
+
+    // Assert the outcome and the rejections of the values
+    assertEquals(1, result.getValidCount());
+    assertEquals(2, result.getRejectionCount(ProvinceCodeHandler.class));
+    assertEquals(2, result.getRejectionCount(RejectionReason.INVALID_PROVINCE));
+    assertEquals(1, processor.getHitCount());
+    assertSame(RejectionReason.INVALID_PROVINCE, processor.validate("9999999999"));
+    assertEquals(2, processor.getHitCount());
+    assertEquals("9999999999", processor.getIdentityDocument().getValue().toString());
+    assertEquals(
+        ProvinceCodeHandler.class,
+        IdentityRejectedException.getSourceClass(processor.getIdentityDocument().getRejection()));
+  }
+
+  /** Tests that the cache stays bounded and keeps returning correct results. */
+  @Test
+  void testEviction() {
+    // Process more distinct values than the cache can hold, twice
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 4);
+    for (int i = 0; i < 2; i++) {
+      for (int value = 0; value < 64; value++) {
+        assertFalse(processor.process(String.format("99%08d", value)));
+      }
+      assertTrue(processor.process("1710034065"));
+    }
+
+    // Assert that most values were evicted
+    assertTrue(processor.getMissCount() > 120);
+  }
+
+  /** Tests that reloading the configuration invalidates the cached values. */
+  @Test
+  void testReloadInvalidates() {
+    // Cache a valid value
+    CachingIdentityProcessor processor = new CachingIdentityProcessor(new CIProcessor(), 1024);
+    assertTrue(processor.process("1710034065"));
+
+    // Reload the configuration without province 17
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ci.list.province", "01");
+    try {
+      DocumentValidatorConfig.reload(properties);
+
+      // Assert that the value is processed again with the new configuration
+      assertFalse(processor.process("1710034065"));
+    } finally {
+      DocumentValidatorConfig.reload(new Properties());
+    }
+  }
+}
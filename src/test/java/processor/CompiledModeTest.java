@@ -0,0 +1,150 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCNaturalProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCPrivateProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.RUCPublicProcessor;
+import java.util.Properties;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import validator.GlobalSetup;
+
+/** Unit tests comparing the rejection reasons of the normal and the compiled chains. */
+public class CompiledModeTest {
+
+  /** Number of generated values for each type of document. */
+  private static final int VALUE_COUNT = 20_000;
+
+  /** Characters replacing a character of a valid value, mostly digits. */
+  private static final String CHARACTERS = "0123456789012345678901234567890123456789-a";
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Restores the classpath configuration after each test. */
+  @AfterEach
+  void tearDown() {
+    DocumentValidatorConfig.reload(new Properties());
+  }
+
+  /** Tests that both modes reject each CI value with the same reason. */
+  @Test
+  void testCI() {
+    assertSameReasons(CIProcessor::new, "1710034065", "0912345675", "1700000050");
+  }
+
+  /** Tests that both modes reject each RUC natural value with the same reason. */
+  @Test
+  void testRUCNatural() {
+    assertSameReasons(RUCNaturalProcessor::new, "2222222222001", "1710034065002");
+  }
+
+  /** Tests that both modes reject each RUC private value with the same reason. */
+  @Test
+  void testRUCPrivate() {
+    assertSameReasons(RUCPrivateProcessor::new, "1790011674001", "0992289562001");
+  }
+
+  /** Tests that both modes reject each RUC public value with the same reason. */
+  @Test
+  void testRUCPublic() {
+    assertSameReasons(RUCPublicProcessor::new, "1760001550001", "0960000060001");
+  }
+
+  /**
+   * Asserts that the normal and the compiled chains reject values derived from valid ones with the
+   * same reasons.
+   *
+   * @param processorSupplier Supplier of the processor of the type of document.
+   * @param validValues Valid values from which the tested values are derived.
+   */
+  private static void assertSameReasons(
+      Supplier<IdentityProcessor> processorSupplier, String... validValues) {
+    // Validate derived values with the normal chains
+    String[] values = generateValues(new Random(42), validValues);
+    RejectionReason[] expected = validate(processorSupplier.get(), values);
+
+    // Validate them again with the compiled chains
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ci.compiled", "true");
+    properties.setProperty("io.github.afcarrera.identity.ec.ruc.private.compiled", "true");
+    properties.setProperty("io.github.afcarrera.identity.ec.ruc.public.compiled", "true");
+    DocumentValidatorConfig.reload(properties);
+    RejectionReason[] actual = validate(processorSupplier.get(), values);
+
+    // Assert that each value gets the same reason
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(expected[i], actual[i], values[i]);
+    }
+  }
+
+  /**
+   * Validates values with a processor.
+   *
+   * @param processor The processor validating the values.
+   * @param values The values to be validated.
+   * @return The rejection reason of each value.
+   */
+  private static RejectionReason[] validate(IdentityProcessor processor, String[] values) {
+    RejectionReason[] reasons = new RejectionReason[values.length];
+    for (int i = 0; i < values.length; i++) {
+      reasons[i] = processor.validate(values[i]);
+    }
+    return reasons;
+  }
+
+  /**
+   * Generates values by replacing, removing or adding characters of valid values.
+   *
+   * @param random The random number generator.
+   * @param validValues The valid values from which the values are derived.
+   * @return The generated values.
+   */
+  private static String[] generateValues(Random random, String... validValues) {
+    String[] values = new String[VALUE_COUNT];
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      StringBuilder value = new StringBuilder(validValues[random.nextInt(validValues.length)]);
+      int changeCount = random.nextInt(3);
+      for (int j = 0; j < changeCount; j++) {
+        int index = random.nextInt(value.length());
+        char c = CHARACTERS.charAt(random.nextInt(CHARACTERS.length()));
+        switch (random.nextInt(8)) {
+          case 0:
+            value.deleteCharAt(index);
+            break;
+          case 1:
+            value.insert(index, c);
+            break;
+          default:
+            value.setCharAt(index, c);
+        }
+      }
+      values[i] = value.toString();
+    }
+    return values;
+  }
+}
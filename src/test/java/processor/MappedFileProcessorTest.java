@@ -0,0 +1,103 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.afcarrera.identity.ec.handler.impl.LengthHandler;
+import io.github.afcarrera.identity.ec.handler.impl.ProvinceCodeHandler;
+import io.github.afcarrera.identity.ec.handler.impl.SecondComparisonHandler;
+import io.github.afcarrera.identity.ec.processor.CachingIdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.FileResult;
+import io.github.afcarrera.identity.ec.processor.MappedFileProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link MappedFileProcessor} class. */
+public class MappedFileProcessorTest {
+
+  /** Directory holding the files of each test. */
+  @TempDir Path directory;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Tests the process method with a file holding a single value per line. */
+  @Test
+  void testProcessLines() throws IOException {
+    // Write a file with valid, invalid and blank lines, ending without line feed
+    Path input = directory.resolve("ci.txt");
+    Files.writeString(input, "2222222222\n9999999999\n\n1710034065\r\n2222222223");
+    Path index = directory.resolve("invalid.txt");
+
+    // Process the file
+    FileResult result = new MappedFileProcessor(new CIProcessor()).process(input, index);
+
+    // Assert the counts and the line numbers of the invalid records
+    assertEquals(4, result.getRecordCount());
+    assertEquals(2, result.getValidCount());
+    assertEquals(2, result.getInvalidCount());
+    assertEquals(1, result.getRejectionCount(ProvinceCodeHandler.class));
+    assertEquals(1, result.getRejectionCount(SecondComparisonHandler.class));
+    assertEquals(List.of("2", "5"), Files.readAllLines(index, StandardCharsets.US_ASCII));
+  }
+
+  /** Tests the process method with a CSV file holding the value in a column. */
+  @Test
+  void testProcessCsv() throws IOException {
+    // Write a CSV file with a header, quoted values and a record missing the column
+    Path input = directory.resolve("ci.csv");
+    Files.writeString(
+        input,
+        "name;ci\nAna;\"2222222222\"\nLuis;1717430101\nEva\nJuan;1710034065;x\n",
+        StandardCharsets.US_ASCII);
+
+    // Process the file
+    FileResult result = new MappedFileProcessor(new CIProcessor(), ';', 1, true).process(input);
+
+    // Assert the counts of the records
+    assertEquals(4, result.getRecordCount());
+    assertEquals(2, result.getValidCount());
+    assertEquals(1, result.getRejectionCount(LengthHandler.class));
+  }
+
+  /** Tests that a caching processor reports the rejections of the values found in its cache. */
+  @Test
+  void testProcessCached() throws IOException {
+    // Write a file where an invalid value is repeated after a valid one
+    Path input = directory.resolve("ci.txt");
+    Files.writeString(input, "9999999999\n1710034065\n9999999999\n");
+
+    // Process the file through a cache
+    FileResult result =
+        new MappedFileProcessor(new CachingIdentityProcessor(new CIProcessor(), 1024))
+            .process(input);
+
+    // Assert that the cached value is still counted as invalid
+    assertEquals(3, result.getRecordCount());
+    assertEquals(1, result.getValidCount());
+    assertEquals(2, result.getRejectionCount(ProvinceCodeHandler.class));
+  }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.afcarrera.identity.ec.processor.BatchResult;
+import io.github.afcarrera.identity.ec.processor.IdentityProcessor;
+import io.github.afcarrera.identity.ec.processor.ParallelBatchProcessor;
+import io.github.afcarrera.identity.ec.processor.impl.CIProcessor;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import validator.GlobalSetup;
+
+/** Unit tests for the {@link ParallelBatchProcessor} class. */
+public class ParallelBatchProcessorTest {
+
+  /** CI values with every possible check digit. */
+  private static final String[] VALUES =
+      IntStream.range(0, 50_000)
+          .mapToObj(i -> String.format("%02d%07d%d", i % 30, i / 10, i % 10))
+          .toArray(String[]::new);
+
+  /** Processor validating the values sequentially. */
+  private static final IdentityProcessor processor = new CIProcessor();
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Tests the process method on the common fork-join pool. */
+  @Test
+  void testProcessOnCommonPool() {
+    // Process the CI values sequentially and in parallel
+    BatchResult expected = processor.process(VALUES);
+    BatchResult result = new ParallelBatchProcessor(processor).process(VALUES);
+
+    // Assert that both results are the same
+    assertBatchResult(expected, result);
+  }
+
+  /** Tests the process method on a caller-supplied executor. */
+  @Test
+  void testProcessOnExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      // Process the CI values sequentially and in parallel
+      BatchResult expected = processor.process(VALUES);
+      BatchResult result =
+          new ParallelBatchProcessor(processor, executor, 7).process(Arrays.stream(VALUES));
+
+      // Assert that both results are the same
+      assertBatchResult(expected, result);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Asserts that two batch results are the same.
+   *
+   * @param expected The expected result.
+   * @param result The actual result.
+   */
+  private static void assertBatchResult(BatchResult expected, BatchResult result) {
+    assertEquals(expected.size(), result.size());
+    assertEquals(expected.getValid(), result.getValid());
+    assertEquals(expected.getRejectionCounts(), result.getRejectionCounts());
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package validator;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.afcarrera.identity.ec.domain.DocumentType;
+import io.github.afcarrera.identity.ec.domain.DocumentValidation;
+import io.github.afcarrera.identity.ec.exception.RejectionReason;
+import io.github.afcarrera.identity.ec.validator.AnyIdentityValidator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit tests for the {@link AnyIdentityValidator} class. */
+public class AnyIdentityValidatorTest {
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /**
+   * Tests the detection and validation of every type of document.
+   *
+   * @param value The value to be validated.
+   * @param documentType The expected document type.
+   * @param rejectionReason The expected rejection reason.
+   */
+  @ParameterizedTest
+  @CsvSource({
+    "1710034065,CI,NONE",
+    "1710034066,CI,SECOND_COMPARISON_MISMATCH",
+    "2222222222001,RUC_NATURAL,NONE",
+    "2222222223001,RUC_NATURAL,SECOND_COMPARISON_MISMATCH",
+    "1790011674001,RUC_PRIVATE,NONE",
+    "1790011675001,RUC_PRIVATE,SECOND_COMPARISON_MISMATCH",
+    "1760001550001,RUC_PUBLIC,NONE",
+    "1760001560001,RUC_PUBLIC,SECOND_COMPARISON_MISMATCH",
+    "A1234567,UNKNOWN,INVALID_LENGTH",
+    "17100340651,UNKNOWN,INVALID_LENGTH",
+    "2222222222000,RUC_NATURAL,INVALID_ESTABLISHMENT",
+    "9910034065,CI,INVALID_PROVINCE",
+    "17100340a5,CI,INVALID_FORMAT",
+    "1A10034065,CI,INVALID_FORMAT",
+    "1A90011674001,RUC_PRIVATE,INVALID_FORMAT"
+  })
+  void testValidate(String value, DocumentType documentType, RejectionReason rejectionReason) {
+    // Validate the value as a string and from a buffer
+    AnyIdentityValidator validator = new AnyIdentityValidator();
+    DocumentValidation result = validator.validate(value);
+    byte[] buffer = (" " + value + " ").getBytes(US_ASCII);
+
+    // Assert that both get the expected type and rejection reason
+    assertEquals(documentType, result.getDocumentType());
+    assertEquals(rejectionReason, result.getRejectionReason());
+    assertEquals(rejectionReason == RejectionReason.NONE, result.isValid());
+    assertSame(result, validator.validate(buffer, 1, value.length()));
+    assertEquals(result.isValid(), validator.isValid(value, null));
+  }
+
+  /** Tests the validation of a batch holding different types of documents. */
+  @Test
+  void testValidateBatch() {
+    // Validate a mixed batch
+    DocumentValidation[] results =
+        new AnyIdentityValidator()
+            .validate(new String[] {"1710034065", "1790011674001", "1760001550001", null});
+
+    // Assert that each value gets its type
+    assertSame(DocumentValidation.of(DocumentType.CI, RejectionReason.NONE), results[0]);
+    assertSame(DocumentValidation.of(DocumentType.RUC_PRIVATE, RejectionReason.NONE), results[1]);
+    assertSame(DocumentValidation.of(DocumentType.RUC_PUBLIC, RejectionReason.NONE), results[2]);
+    assertSame(
+        DocumentValidation.of(DocumentType.UNKNOWN, RejectionReason.INVALID_FORMAT), results[3]);
+  }
+
+  /** Tests that a range out of the bounds of the buffer is rejected before the type is detected. */
+  @Test
+  void testValidateOutOfBounds() {
+    // Create a buffer shorter than the requested ranges
+    AnyIdentityValidator validator = new AnyIdentityValidator();
+    byte[] buffer = "1790011674001".getBytes(US_ASCII);
+
+    // Assert that each invalid range throws the bounds error, not an array index error
+    assertEquals(
+        IndexOutOfBoundsException.class,
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(buffer, 12, 13))
+            .getClass());
+    assertEquals(
+        IndexOutOfBoundsException.class,
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(buffer, -1, 13))
+            .getClass());
+    assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(buffer, 0, -1));
+  }
+}
@@ -13,14 +13,18 @@
  */
 package validator;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.afcarrera.identity.ec.validator.CIValidator;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /** Unit tests for the {@link CIValidator} class. */
@@ -68,4 +72,59 @@ public class CIValidatorTest {
     // Assert that the result is false
     assertFalse(result);
   }
+
+  /**
+   * Tests the isValid method with several numeric CI values.
+   *
+   * @param value The numeric CI value to be tested.
+   * @param expected The expected result.
+   */
+  @ParameterizedTest
+  @CsvSource({
+    "1710034065, true",
+    "912345675, true",
+    "1710034066, false",
+    "12345675, false",
+    "17100340650, false",
+    "-1710034065, false"
+  })
+  void testIsValidNumeric(long value, boolean expected) {
+    // Validate the numeric CI value, zero-padded to ten digits
+    boolean result = validator.isValid(value);
+
+    // Assert the result
+    assertEquals(expected, result);
+  }
+
+  /** Tests the isValid method from several threads sharing the same processor. */
+  @Test
+  void testIsValidConcurrently() {
+    // CI values with every possible check digit, validated sequentially first
+    String[] values =
+        IntStream.range(0, 20_000)
+            .mapToObj(i -> String.format("17%07d%d", i / 10, i % 10))
+            .toArray(String[]::new);
+    boolean[] expected = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) {
+      expected[i] = validator.isValid(values[i], null);
+    }
+
+    // Validate the same values in parallel
+    IntStream.range(0, values.length)
+        .parallel()
+        .forEach(i -> assertEquals(expected[i], new CIValidator().isValid(values[i], null)));
+  }
+
+  /** Tests the isValid method with values read in place from a buffer. */
+  @Test
+  void testIsValidBytes() {
+    // A buffer holding a valid and an invalid CI between separators
+    byte[] buffer = "{\"ci\":\"1710034065\",\"other\":\"1710034066\"}".getBytes(US_ASCII);
+
+    // Assert that each range gets the expected result
+    assertTrue(validator.isValid(buffer, 7, 10));
+    assertFalse(validator.isValid(buffer, 28, 10));
+    assertFalse(validator.isValid(buffer, 7, 9));
+    assertTrue(validator.isValid(new StringBuilder("1710034065")));
+  }
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.config.ConfigurationWatcher;
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.domain.DocumentType;
+import io.github.afcarrera.identity.ec.exception.IdentityDocumentException;
+import io.github.afcarrera.identity.ec.generator.CIGenerator;
+import io.github.afcarrera.identity.ec.validator.AnyIdentityValidator;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import io.github.afcarrera.identity.ec.validator.RUCNaturalValidator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for reloading the configuration at runtime. */
+public class ConfigurationReloadTest {
+
+  /** Property holding the list of valid province codes of a CI. */
+  private static final String PROVINCE_LIST = "io.github.afcarrera.identity.ec.ci.list.province";
+
+  /** Valid CI value of province 17. */
+  private static final String CI = "1710034065";
+
+  /** Valid RUC private value of province 17. */
+  private static final String RUC_PRIVATE = "1790011674001";
+
+  /** Directory holding the watched configuration file. */
+  @TempDir Path directory;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Restores the classpath configuration after each test. */
+  @AfterEach
+  void tearDown() {
+    DocumentValidatorConfig.reload(new Properties());
+  }
+
+  /** Tests that reloading the properties replaces the chains. */
+  @Test
+  void testReload() {
+    // Reload the configuration without province 17
+    Properties properties = new Properties();
+    properties.setProperty(PROVINCE_LIST, "01,02");
+    DocumentValidatorConfig.reload(properties);
+
+    // Assert that the CI is rejected, also within a RUC natural
+    assertFalse(new CIValidator().isValid(CI, null));
+    assertFalse(new RUCNaturalValidator().isValid(CI + "001", null));
+  }
+
+  /** Tests that the type detection and the generators follow the reloaded configuration. */
+  @Test
+  void testReloadRouting() {
+    // Assert that a RUC private value is detected as such
+    AnyIdentityValidator validator = new AnyIdentityValidator();
+    assertEquals(DocumentType.RUC_PRIVATE, validator.validate(RUC_PRIVATE).getDocumentType());
+
+    // Reload the configuration with another RUC private type digit and without province 17
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ruc.private.list.type", "8");
+    properties.setProperty(PROVINCE_LIST, "01,02");
+    DocumentValidatorConfig.reload(properties);
+
+    // Assert that the value is now detected as a RUC natural
+    assertEquals(DocumentType.RUC_NATURAL, validator.validate(RUC_PRIVATE).getDocumentType());
+
+    // Assert that a new generator only generates values of the reloaded provinces
+    SplittableRandom random = new SplittableRandom(1);
+    CIGenerator generator = new CIGenerator();
+    for (int i = 0; i < 100; i++) {
+      long province = generator.next(random) / 100_000_000L;
+      assertTrue(province == 1 || province == 2);
+    }
+  }
+
+  /** Tests that an invalid configuration keeps the current chains. */
+  @Test
+  void testReloadInvalid() {
+    // Reload an invalid configuration
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ci.list.coefficient", "2,x");
+
+    // Assert that the reload fails with its cause and the CI is still valid
+    IdentityDocumentException identityDocumentException =
+        assertThrows(
+            IdentityDocumentException.class, () -> DocumentValidatorConfig.reload(properties));
+    assertInstanceOf(NumberFormatException.class, identityDocumentException.getCause());
+    assertTrue(new CIValidator().isValid(CI, null));
+  }
+
+  /** Tests that the watcher reloads the configuration when the file changes. */
+  @Test
+  void testWatch() throws Exception {
+    // Start watching a file without province 17
+    Path file = directory.resolve("identity.properties");
+    Files.writeString(file, PROVINCE_LIST + "=01,02\n");
+    ConfigurationWatcher watcher = ConfigurationWatcher.start(file);
+    try {
+      assertFalse(new CIValidator().isValid(CI, null));
+
+      // Add province 17 to the file
+      Files.writeString(file, PROVINCE_LIST + "=01,02,17\n");
+
+      // Assert that the CI becomes valid once the file is reloaded
+      long deadline = System.nanoTime() + 30_000_000_000L;
+      while (!new CIValidator().isValid(CI, null) && System.nanoTime() < deadline) {
+        Thread.sleep(50);
+      }
+      assertTrue(new CIValidator().isValid(CI, null));
+    } finally {
+      watcher.close();
+    }
+  }
+}
@@ -13,14 +13,18 @@
  */
 package validator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
 import io.github.afcarrera.identity.ec.validator.RUCNaturalValidator;
+import java.util.Properties;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /** Unit tests for the {@link RUCNaturalValidator} class. */
@@ -54,13 +58,30 @@ public class RUCNaturalValidatorTest {
     assertTrue(result);
   }
 
+  /** Tests the isValid method with numeric RUCNatural values. */
+  @Test
+  void testIsValidNumeric() {
+    // Validate numeric values, zero-padded to thirteen digits
+    assertTrue(validator.isValid(2222222222001L));
+    assertTrue(validator.isValid(912345675001L));
+    assertFalse(validator.isValid(9999999999002L));
+  }
+
   /**
    * Tests the isValid method with several invalid RUCNatural values.
    *
    * @param invalidValue The invalid RUCNatural value to be tested.
    */
   @ParameterizedTest
-  @ValueSource(strings = {"1", "9999999999002", "1717430101003", "2222222223004"})
+  @ValueSource(
+      strings = {
+        "1",
+        "9999999999002",
+        "1717430101003",
+        "2222222223004",
+        "2222222222000",
+        "222222222200a"
+      })
   void testIsInvalid(String invalidValue) {
     // Validate the RUCNatural value
     boolean result = validator.isValid(invalidValue, null);
@@ -68,4 +89,32 @@ public class RUCNaturalValidatorTest {
     // Assert that the result is false
     assertFalse(result);
   }
+
+  /**
+   * Tests that the compiled chain validates the embedded CI and the establishment number.
+   *
+   * @param value The RUCNatural value to be tested.
+   * @param expected The expected result.
+   */
+  @ParameterizedTest
+  @CsvSource({
+    "2222222222001,true",
+    "1710034065002,true",
+    "2222222223001,false",
+    "9910034065001,false",
+    "2222222222000,false",
+    "222222222200a,false"
+  })
+  void testIsValidCompiled(String value, boolean expected) {
+    // Reload the configuration with the compiled CI chain
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ci.compiled", "true");
+    DocumentValidatorConfig.reload(properties);
+    try {
+      // Assert that the value gets the expected result
+      assertEquals(expected, validator.isValid(value, null));
+    } finally {
+      DocumentValidatorConfig.reload(new Properties());
+    }
+  }
 }
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.validator.RUCPrivateValidator;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the {@link RUCPrivateValidator} class. */
+public class RUCPrivateValidatorTest {
+
+  /** Instance of the RUCPrivateValidator to be tested. */
+  RUCPrivateValidator validator;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Sets up the test environment by initializing the RUCPrivateValidator instance. */
+  @BeforeEach
+  void setup() {
+    validator = new RUCPrivateValidator();
+  }
+
+  /**
+   * Tests the isValid method with several valid RUCPrivate values.
+   *
+   * @param validValue The valid RUCPrivate value to be tested.
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {"1790011674001", "1792134579001", "0992289562001", "1790000028002"})
+  void testIsValid(String validValue) {
+    // Validate the RUCPrivate value
+    boolean result = validator.isValid(validValue, null);
+
+    // Assert that the result is true
+    assertTrue(result);
+  }
+
+  /** Tests the isValid method with a numeric RUCPrivate value. */
+  @Test
+  void testIsValidNumeric() {
+    // Validate numeric values, zero-padded to thirteen digits
+    assertTrue(validator.isValid(992289562001L));
+    assertFalse(validator.isValid(992289563001L));
+  }
+
+  /**
+   * Tests the isValid method with several invalid RUCPrivate values.
+   *
+   * @param invalidValue The invalid RUCPrivate value to be tested.
+   */
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "1",
+        "1790011675001",
+        "1760001550001",
+        "2222222222001",
+        "9990011674001",
+        "1790011674000",
+        "0990000000001",
+        "179001167400a"
+      })
+  void testIsInvalid(String invalidValue) {
+    // Validate the RUCPrivate value
+    boolean result = validator.isValid(invalidValue, null);
+
+    // Assert that the result is false
+    assertFalse(result);
+  }
+
+  /**
+   * Tests that the compiled chain gets the same results.
+   *
+   * @param value The RUCPrivate value to be tested.
+   * @param expected The expected result.
+   */
+  @ParameterizedTest
+  @CsvSource({
+    "1790011674001,true",
+    "0992289562001,true",
+    "1790011675001,false",
+    "1760001550001,false",
+    "1790011674000,false",
+    "0990000000001,false"
+  })
+  void testIsValidCompiled(String value, boolean expected) {
+    // Reload the configuration with the compiled RUCPrivate chain
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ruc.private.compiled", "true");
+    DocumentValidatorConfig.reload(properties);
+    try {
+      // Assert that the value gets the expected result
+      assertEquals(expected, validator.isValid(value, null));
+    } finally {
+      DocumentValidatorConfig.reload(new Properties());
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.validator.RUCPublicValidator;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the {@link RUCPublicValidator} class. */
+public class RUCPublicValidatorTest {
+
+  /** Instance of the RUCPublicValidator to be tested. */
+  RUCPublicValidator validator;
+
+  /** Initializes the global setup before all tests are run. */
+  @BeforeAll
+  static void init() {
+    GlobalSetup.setup();
+  }
+
+  /** Sets up the test environment by initializing the RUCPublicValidator instance. */
+  @BeforeEach
+  void setup() {
+    validator = new RUCPublicValidator();
+  }
+
+  /**
+   * Tests the isValid method with several valid RUCPublic values.
+   *
+   * @param validValue The valid RUCPublic value to be tested.
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {"1760001550001", "0960000060001", "1760001200001", "1760001390002"})
+  void testIsValid(String validValue) {
+    // Validate the RUCPublic value
+    boolean result = validator.isValid(validValue, null);
+
+    // Assert that the result is true
+    assertTrue(result);
+  }
+
+  /** Tests the isValid method with a numeric RUCPublic value. */
+  @Test
+  void testIsValidNumeric() {
+    // Validate numeric values, zero-padded to thirteen digits
+    assertTrue(validator.isValid(960000060001L));
+    assertFalse(validator.isValid(960000070001L));
+  }
+
+  /**
+   * Tests the isValid method with several invalid RUCPublic values.
+   *
+   * @param invalidValue The invalid RUCPublic value to be tested.
+   */
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "1",
+        "1760001560001",
+        "1790011674001",
+        "2222222222001",
+        "9960001550001",
+        "1760001550000",
+        "1760000400001",
+        "176000155000a"
+      })
+  void testIsInvalid(String invalidValue) {
+    // Validate the RUCPublic value
+    boolean result = validator.isValid(invalidValue, null);
+
+    // Assert that the result is false
+    assertFalse(result);
+  }
+
+  /**
+   * Tests that the compiled chain gets the same results.
+   *
+   * @param value The RUCPublic value to be tested.
+   * @param expected The expected result.
+   */
+  @ParameterizedTest
+  @CsvSource({
+    "1760001550001,true",
+    "1760001200001,true",
+    "1760001560001,false",
+    "1790011674001,false",
+    "1760001550000,false",
+    "1760000400001,false"
+  })
+  void testIsValidCompiled(String value, boolean expected) {
+    // Reload the configuration with the compiled RUCPublic chain
+    Properties properties = new Properties();
+    properties.setProperty("io.github.afcarrera.identity.ec.ruc.public.compiled", "true");
+    DocumentValidatorConfig.reload(properties);
+    try {
+      // Assert that the value gets the expected result
+      assertEquals(expected, validator.isValid(value, null));
+    } finally {
+      DocumentValidatorConfig.reload(new Properties());
+    }
+  }
+}
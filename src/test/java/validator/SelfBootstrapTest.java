@@ -0,0 +1,44 @@
+/**
+ * Copyright 2025 afcarrera
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package validator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.afcarrera.identity.ec.config.CIConfig;
+import io.github.afcarrera.identity.ec.config.DocumentValidatorConfig;
+import io.github.afcarrera.identity.ec.validator.CIValidator;
+import io.github.afcarrera.identity.ec.validator.RUCNaturalValidator;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for using the validators without initializing the configuration first. */
+public class SelfBootstrapTest {
+
+  /** Tests that the validators load the configuration on first use. */
+  @Test
+  void testValidateWithoutInit() {
+    // Validate values without calling DocumentValidatorConfig.init()
+    assertTrue(new CIValidator().isValid("1710034065", null));
+    assertFalse(new CIValidator().isValid("1710034066", null));
+    assertTrue(new RUCNaturalValidator().isValid("2222222222001", null));
+  }
+
+  /** Tests that the managed singletons are the instances used by the validators. */
+  @Test
+  void testGetBean() {
+    // Assert that the bean is the singleton instance
+    assertSame(CIConfig.getInstance(), DocumentValidatorConfig.getBean(CIConfig.class));
+  }
+}